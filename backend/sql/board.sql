@@ -213,3 +213,13 @@ FROM board;
 
 
 
+
+#댓글 커서 페이징용 인덱스
+CREATE INDEX idx_board_comment_board_id_id ON board_comment (board_id, id);
+
+#목록용 요약 컬럼
+ALTER TABLE board
+    ADD COLUMN excerpt VARCHAR(500);
+UPDATE board
+SET excerpt = LEFT(TRIM(REGEXP_REPLACE(content, '<[^>]*>', ' ')), 200)
+WHERE excerpt IS NULL;
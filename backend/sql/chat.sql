@@ -100,3 +100,105 @@ DROP TABLE test;
 
 DELETE FROM refresh_token
 WHERE id BETWEEN 554 AND 588;
+
+# 대화방 고유 키 ("작은id-큰id") + keyset 페이지용 인덱스
+ALTER TABLE chat_message
+    ADD COLUMN room_key VARCHAR(23);
+UPDATE chat_message
+SET room_key = CONCAT(LEAST(sender_id, recipient_id), '-', GREATEST(sender_id, recipient_id))
+WHERE room_key IS NULL;
+CREATE INDEX idx_chat_message_room_key_id ON chat_message (room_key, id);
+
+# 대화 목록 요약 (회원별 대화방 1행, 메시지 저장과 같은 트랜잭션에서 갱신)
+CREATE TABLE chat_conversation
+(
+    member_id            INT          NOT NULL,
+    room_key             VARCHAR(23)  NOT NULL,
+    peer_id              INT          NOT NULL,
+    peer_nickname        VARCHAR(255),
+    last_message         TEXT,
+    last_message_id      INT          NOT NULL,
+    last_timestamp       DATETIME(6)  NOT NULL,
+    unread_count         INT          NOT NULL DEFAULT 0,
+    last_read_message_id INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id, room_key),
+    INDEX idx_chat_conversation_recent (member_id, last_timestamp, room_key)
+);
+# 기존 메시지로 초기화
+INSERT INTO chat_conversation (member_id, room_key, peer_id, peer_nickname, last_message, last_message_id,
+                               last_timestamp, unread_count, last_read_message_id)
+SELECT p.member_id,
+       p.room_key,
+       p.peer_id,
+       IF(m.sender_id = p.member_id, m.recipient_nick_name, m.sender_nick_name),
+       m.content,
+       m.id,
+       m.timestamp,
+       0,
+       m.id
+FROM (SELECT sender_id AS member_id, recipient_id AS peer_id, room_key
+      FROM chat_message
+      UNION
+      SELECT recipient_id, sender_id, room_key
+      FROM chat_message) p
+         JOIN (SELECT room_key, MAX(id) AS last_id FROM chat_message GROUP BY room_key) l ON l.room_key = p.room_key
+         JOIN chat_message m ON m.id = l.last_id;
+
+# 그룹 대화방 (메시지 room_key = 'g{id}', recipient_id 없음)
+CREATE TABLE chat_room
+(
+    id         INT AUTO_INCREMENT PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    owner_id   INT          NOT NULL,
+    created_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (owner_id) REFERENCES member (id)
+);
+CREATE TABLE chat_room_member
+(
+    room_id   INT      NOT NULL,
+    member_id INT      NOT NULL,
+    joined_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (room_id, member_id),
+    INDEX idx_chat_room_member_member (member_id),
+    FOREIGN KEY (room_id) REFERENCES chat_room (id) ON DELETE CASCADE,
+    FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
+ALTER TABLE chat_message
+    MODIFY recipient_id INT NULL;
+# 그룹방 요약 행: peer_id 없음, peer_nickname 에 방 이름, 메시지마다 room_key 로 한 번에 UPDATE
+ALTER TABLE chat_conversation
+    MODIFY peer_id INT NULL,
+    ADD COLUMN room_id INT NULL AFTER room_key,
+    ADD INDEX idx_chat_conversation_room_key (room_key);
+
+# 로컬 채팅 로그 위치 (재시작 시 DB 에 없는 레코드만 재생)
+ALTER TABLE chat_message
+    ADD COLUMN log_id BIGINT NULL,
+    ADD INDEX idx_chat_message_log_id (log_id);
+
+# 월별 파티션 (ChatPartitionManager 가 p_future 를 나눠 다음 달들을 미리 만들고, 오래된 달은 보관 파일로 내보낸 뒤 DROP)
+# - 파티션 키가 모든 유니크 키에 있어야 하므로 PK 를 (id, timestamp) 로
+# - 파티션 테이블은 외래 키를 지원하지 않으므로 sender_id/recipient_id FK 제거
+# - 기존 메시지는 p_before 하나에 (상한이 보관 기준보다 오래되면 통째로 보관 파일로)
+SELECT CONSTRAINT_NAME
+FROM information_schema.REFERENTIAL_CONSTRAINTS
+WHERE CONSTRAINT_SCHEMA = DATABASE()
+  AND TABLE_NAME = 'chat_message';
+# 위에서 나온 이름으로
+# ALTER TABLE chat_message DROP FOREIGN KEY chat_message_ibfk_1, DROP FOREIGN KEY chat_message_ibfk_2;
+ALTER TABLE chat_message
+    MODIFY timestamp DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, timestamp);
+ALTER TABLE chat_message
+    PARTITION BY RANGE COLUMNS (timestamp) (
+        PARTITION p_before VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+        );
+
+# 로그 위치는 노드마다 따로 증가 → 어느 노드 로그인지 같이 저장 (재생 시 자기 노드 것만 비교)
+ALTER TABLE chat_message
+    ADD COLUMN log_node VARCHAR(64) NULL AFTER log_id,
+    DROP INDEX idx_chat_message_log_id,
+    ADD INDEX idx_chat_message_log_node (log_node, log_id);
@@ -191,3 +191,13 @@ CREATE TABLE diary_board
 );
 INSERT INTO diary_comment (diary_id, member_id, comment, inserted)
 VALUES (11, 5, '테스트 댓글입니다', NOW());
+
+# 목록용 요약 컬럼 (작성/수정 시 서버에서 계산)
+ALTER TABLE diary_board
+    ADD COLUMN excerpt VARCHAR(500);
+UPDATE diary_board
+SET excerpt = LEFT(TRIM(REGEXP_REPLACE(content, '<[^>]*>', ' ')), 200)
+WHERE excerpt IS NULL;
+
+# 댓글 목록의 대댓글 수 집계용 인덱스
+CREATE INDEX idx_diary_comment_diary_reply ON diary_comment (diary_id, reply_comment_id);
@@ -47,4 +47,33 @@ ALTER TABLE member
     ADD COLUMN profile_image VARCHAR(255) AFTER detailed_address;
 
 SELECT *
-FROM member;
\ No newline at end of file
+FROM member;
+# 접속 상태를 회원 id 로 저장 (PresenceService 일괄 저장, 닉네임 조인 제거)
+ALTER TABLE login_check
+    ADD COLUMN member_id INT NULL;
+UPDATE login_check lc JOIN member m ON lc.member_nickname = m.nickname
+SET lc.member_id = m.id
+WHERE lc.member_id IS NULL;
+CREATE UNIQUE INDEX uq_login_check_member_id ON login_check (member_id);
+
+# 메일 발송 대기열 (EmailOutboxDispatcher 가 백그라운드로 발송, 성공해야 임시 비밀번호 반영)
+CREATE TABLE email_outbox
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT,
+    username        VARCHAR(255),
+    password_hash   VARCHAR(255),
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      VARCHAR(500),
+    claim_token     VARCHAR(36),
+    claimed_at      DATETIME,
+    created_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at         DATETIME,
+    INDEX idx_email_outbox_status_next (status, next_attempt_at),
+    INDEX idx_email_outbox_claim (claim_token),
+    INDEX idx_email_outbox_username (username, status)
+);
@@ -1,10 +1,35 @@
 package com.backend.config;
 
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+// @Scheduled 전용 스케줄러 (지정하지 않으면 STOMP 브로커의 messageBrokerTaskScheduler 를 같이 씀 → heartbeat 지연)
+// 빈으로 등록하지 않음: TaskScheduler 빈이 둘이면 WebSocketConfiguration 주입이 모호해짐
 @Configuration
-public class AppConfiguration {
+@EnableScheduling
+public class AppConfiguration implements SchedulingConfigurer {
 
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
 
-}
\ No newline at end of file
+    @Value("${app.scheduler.pool-size:2}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("app-scheduler-");
+        scheduler.initialize();
+        registrar.setTaskScheduler(scheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+package com.backend.config;
+
+import com.backend.service.common.SparseFields;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfiguration {
+
+    // @JsonFilter 가 붙은 타입을 fields 파라미터 없이 직렬화할 때도 실패하지 않도록 기본 필터 등록
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder.filters(SparseFields.DEFAULT_FILTERS);
+    }
+}
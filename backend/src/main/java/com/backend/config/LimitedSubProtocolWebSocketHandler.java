@@ -0,0 +1,100 @@
+package com.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 느린 클라이언트 처리 (WebSocket 세션 단위 송신 버퍼 제한).
+ * - SubProtocolWebSocketHandler 가 세션을 감쌀 때(decorateSession) 이 클래스의 세션으로 한 번만 감쌈
+ *   (기본 구현은 항상 TERMINATE 라서 그 바깥/안쪽에 또 감싸면 정책과 지표가 실제와 달라짐)
+ * - 송신 버퍼는 send-buffer-size-limit / send-time-limit-ms (WebSocketTransportRegistration 에서 설정됨)
+ * - 넘으면 정책에 따라 TERMINATE(연결 종료) 또는 DROP(오래된 프레임 버림)
+ * - stomp.session.* 지표: 세션 수, 전체/최대 송신 대기 바이트, 보낼 때마다 본 송신 대기 바이트 분포(stomp.session.buffer),
+ *   한도 초과(overflow)/강제 종료 수 (세션별 meter 는 만들지 않음 → 연결 수와 무관하게 meter 수 고정)
+ */
+@Slf4j
+public class LimitedSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final OverflowStrategy overflowStrategy;
+    private final Map<String, LimitedSession> sessions = new ConcurrentHashMap<>();
+    private final DistributionSummary depth;
+    private final Counter overflow;
+    private final Counter terminated;
+
+    public LimitedSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                              SubscribableChannel clientOutboundChannel,
+                                              OverflowStrategy overflowStrategy,
+                                              MeterRegistry registry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.overflowStrategy = overflowStrategy;
+        this.depth = DistributionSummary.builder("stomp.session.buffer")
+                .baseUnit("bytes")
+                .publishPercentileHistogram() // 분위수는 백엔드에서 여러 인스턴스를 합쳐 계산
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(64.0 * 1024 * 1024)
+                .register(registry);
+        this.overflow = registry.counter("stomp.session.overflow");
+        this.terminated = registry.counter("stomp.session.terminated");
+        registry.gaugeMapSize("stomp.session.count", Tags.empty(), sessions);
+        registry.gauge("stomp.session.buffer.total", sessions, map -> map.values().stream()
+                .mapToLong(LimitedSession::getBufferSize).sum());
+        registry.gauge("stomp.session.buffer.max", sessions, map -> map.values().stream()
+                .mapToLong(LimitedSession::getBufferSize).max().orElse(0));
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        // 한도는 생성 뒤 WebMvcStompEndpointRegistry 가 채우므로 세션마다 읽음
+        LimitedSession limited = new LimitedSession(session, getSendTimeLimit(), getSendBufferSizeLimit());
+        sessions.put(session.getId(), limited);
+        return limited;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            sessions.remove(session.getId());
+        }
+    }
+
+    private class LimitedSession extends ConcurrentWebSocketSessionDecorator {
+
+        LimitedSession(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit) {
+            super(delegate, sendTimeLimit, bufferSizeLimit, overflowStrategy);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            // DROP 정책이면 이 시점에 오래된 프레임이 버려짐
+            if (getBufferSize() + message.getPayloadLength() > getBufferSizeLimit()) {
+                overflow.increment();
+            }
+            try {
+                super.sendMessage(message);
+                depth.record(getBufferSize()); // 보낸 직후 이 세션에 남아 있는 대기 바이트
+            } catch (SessionLimitExceededException e) {
+                terminated.increment();
+                log.info("closing slow websocket session {} (buffered {} bytes)", getId(), getBufferSize());
+                throw e;
+            }
+        }
+    }
+}
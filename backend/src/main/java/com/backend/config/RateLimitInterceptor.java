@@ -0,0 +1,45 @@
+package com.backend.config;
+
+import com.backend.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+// 쓰기 API 요청 제한 (WebConfig 에서 경로별 규칙 지정), 로그인 회원은 id, 아니면 IP 기준, 초과 시 429
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final String rule;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, String rule) {
+        this.rateLimiter = rateLimiter;
+        this.rule = rule;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(rule, key(request));
+        if (waitNanos == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        return false;
+    }
+
+    private static String key(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails user) {
+            return "m:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,78 @@
+package com.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 토큰 버킷 (GCRA).
+ * - 규칙별, 키(회원 id 또는 IP, STOMP 세션)별 버킷 하나 = AtomicLong 하나 (다음 허용 시각, 나노초)
+ * - 락 없이 CAS 한 번으로 판단, 충전은 타이머 없이 시각 차이로 계산
+ * - 규칙: rate-limit.{이름}.capacity (순간 허용 개수), rate-limit.{이름}.per-second (초당 충전)
+ * - 다 충전된 버킷은 주기적으로 정리 (그 상태와 없는 상태가 같음)
+ */
+@Component
+public class RateLimiter {
+
+    private final Environment environment;
+    private final MeterRegistry registry;
+    private final Map<String, Rule> rules = new ConcurrentHashMap<>();
+
+    public RateLimiter(Environment environment, MeterRegistry registry) {
+        this.environment = environment;
+        this.registry = registry;
+    }
+
+    // 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 나노초
+    public long tryAcquire(String rule, String key) {
+        return rules.computeIfAbsent(rule, this::load).tryAcquire(key, System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        for (Rule rule : rules.values()) {
+            rule.buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        }
+    }
+
+    private Rule load(String name) {
+        int capacity = environment.getProperty("rate-limit." + name + ".capacity", Integer.class, 10);
+        double perSecond = environment.getProperty("rate-limit." + name + ".per-second", Double.class, 1.0);
+        return new Rule(capacity, perSecond, registry.counter("rate.limit.rejected", "rule", name));
+    }
+
+    private static final class Rule {
+        private final long emissionNanos; // 토큰 하나 충전 시간
+        private final long burstNanos;    // 버킷이 비기까지 미리 당겨 쓸 수 있는 시간
+        private final Counter rejected;
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        Rule(int capacity, double perSecond, Counter rejected) {
+            this.emissionNanos = (long) (1_000_000_000L / perSecond);
+            this.burstNanos = emissionNanos * capacity;
+            this.rejected = rejected;
+        }
+
+        long tryAcquire(String key, long now) {
+            AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current - now, 0) + emissionNanos; // now 기준 상대 시각
+                if (next > burstNanos) {
+                    rejected.increment();
+                    return next - burstNanos;
+                }
+                if (tat.compareAndSet(current, now + next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
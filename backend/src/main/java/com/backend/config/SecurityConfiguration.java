@@ -150,6 +150,9 @@ public class SecurityConfiguration {
                 // 이미지 업로드 경로 허용
                 .requestMatchers(HttpMethod.GET, "/api/image/**", "/api/images/**", "/uploads/**").permitAll()
 
+                // [WebSocket] 핸드셰이크는 허용, 인증은 STOMP CONNECT 에서 (StompAuthChannelInterceptor)
+                .requestMatchers("/ws/**").permitAll()
+
                 // [관리자]
                 .requestMatchers("/admin").hasRole("ADMIN")
 
@@ -0,0 +1,138 @@
+package com.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 SQL 예산 검사 (N+1 탐지).
+ * - SqlBudgetFilter 가 요청 시작/끝에 begin()/end() 호출 → 그 사이 실행된 statement 수, DB 시간, statement id 별 횟수 집계
+ * - 같은 statement id 가 max-repeats 를 넘거나 전체가 max-statements 를 넘으면 위반
+ * - fail-on-violation=true(테스트) 이면 바로 예외, 아니면 요청 끝에 sample-rate 비율로 경고 로그
+ * - 요청 밖(스케줄러, 시작 시 로딩 등)에서 실행된 쿼리는 집계하지 않음
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlBudgetInterceptor implements Interceptor {
+
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>();
+
+    @Value("${sql.budget.max-statements:50}")
+    private int maxStatements;
+
+    @Value("${sql.budget.max-repeats:10}")
+    private int maxRepeats;
+
+    @Value("${sql.budget.fail-on-violation:false}")
+    private boolean failOnViolation;
+
+    @Value("${sql.budget.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        RequestStats stats = CURRENT.get();
+        if (stats == null) {
+            return invocation.proceed();
+        }
+
+        String statementId = ((MappedStatement) invocation.getArgs()[0]).getId();
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            stats.record(statementId, System.nanoTime() - start);
+            check(stats, statementId);
+        }
+    }
+
+    private void check(RequestStats stats, String statementId) {
+        String violation = null;
+        int repeats = stats.countOf(statementId);
+        if (repeats == maxRepeats + 1) {
+            violation = "N+1 의심: " + statementId + " 가 한 요청에서 " + repeats + "회 이상 실행됨";
+        } else if (stats.statements == maxStatements + 1) {
+            violation = "SQL 예산 초과: 한 요청에서 statement " + stats.statements + "개 이상 실행됨";
+        }
+        if (violation == null) {
+            return;
+        }
+        stats.violations.add(violation);
+        if (failOnViolation) {
+            throw new IllegalStateException(violation + " (" + stats.label + ")");
+        }
+    }
+
+    void begin(String label) {
+        CURRENT.set(new RequestStats(label));
+    }
+
+    void end() {
+        RequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        if (stats == null || stats.violations.isEmpty()) {
+            return;
+        }
+        // 운영에서는 로그 폭주를 막기 위해 일부만 기록
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.warn("[sql-budget] {} statements={} dbTime={}ms violations={} top={}",
+                    stats.label, stats.statements, stats.nanos / 1_000_000, stats.violations, stats.top());
+        }
+    }
+
+    private static class RequestStats {
+        private final String label;
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final List<String> violations = new ArrayList<>();
+        private int statements;
+        private long nanos;
+
+        RequestStats(String label) {
+            this.label = label;
+        }
+
+        void record(String statementId, long elapsed) {
+            statements++;
+            nanos += elapsed;
+            counts.merge(statementId, 1, Integer::sum);
+        }
+
+        int countOf(String statementId) {
+            return counts.getOrDefault(statementId, 0);
+        }
+
+        // 가장 많이 실행된 statement (로그용)
+        String top() {
+            return counts.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(e -> e.getKey() + "x" + e.getValue())
+                    .orElse("-");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+/**
+ * STOMP 브로커 설정 (@EnableWebSocketMessageBroker 대신 직접 상속).
+ * - 세션 송신 버퍼 정책/지표를 SubProtocolWebSocketHandler 에서 바로 적용하려고 핸들러만 교체
+ * - 나머지 설정(엔드포인트, 채널, 전송 한도)은 WebSocketConfiguration
+ */
+@Configuration
+public class StompBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+    // 느린 클라이언트: TERMINATE(연결 종료) 또는 DROP(오래된 프레임 버림)
+    private final OverflowStrategy slowConsumerPolicy;
+
+    public StompBrokerConfiguration(MeterRegistry meterRegistry,
+                                    @Value("${stomp.slow-consumer.policy:TERMINATE}") OverflowStrategy slowConsumerPolicy) {
+        this.meterRegistry = meterRegistry;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        return new LimitedSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel,
+                slowConsumerPolicy, meterRegistry);
+    }
+}
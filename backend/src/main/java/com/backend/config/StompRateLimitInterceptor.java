@@ -0,0 +1,44 @@
+package com.backend.config;
+
+import com.backend.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 전송 제한 (/app/chat/**): 세션별(chat-session) → 회원별(chat-send) 두 버킷.
+ * - 초과하면 예외 → 클라이언트에 STOMP ERROR 프레임
+ * - StompAuthChannelInterceptor 다음에 등록 (principal 이 채워진 뒤)
+ */
+@Component
+@RequiredArgsConstructor
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())
+                || accessor.getDestination() == null || !accessor.getDestination().startsWith("/app/chat/")) {
+            return message;
+        }
+        // 세션 먼저: 한 세션이 쏟아내도 거절은 그 세션 버킷에서 끝나고, 같은 회원의 다른 탭이 쓰는 회원 버킷은 안 깎임
+        if (rateLimiter.tryAcquire("chat-session", "s:" + accessor.getSessionId()) != 0) {
+            throw new MessageDeliveryException(message, "chat rate limit exceeded");
+        }
+        if (accessor.getUser() instanceof UsernamePasswordAuthenticationToken auth
+                && auth.getPrincipal() instanceof CustomUserDetails user
+                && rateLimiter.tryAcquire("chat-send", "m:" + user.getId()) != 0) {
+            throw new MessageDeliveryException(message, "chat rate limit exceeded");
+        }
+        return message;
+    }
+}
@@ -1,15 +1,29 @@
 package com.backend.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RateLimiter rateLimiter;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:/home/ubuntu/uploads/");
     }
+
+    // 쓰기 API 요청 제한 (규칙 값은 rate-limit.{이름}.*)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, "board-add")).addPathPatterns("/api/board/add");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, "board-like")).addPathPatterns("/api/board/like");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, "diary-comment-add"))
+                .addPathPatterns("/api/diaryComment/add");
+    }
 }
@@ -1,21 +1,88 @@
 package com.backend.config;
 
-import org.springframework.context.annotation.Bean;
+import com.backend.security.StompAuthChannelInterceptor;
+import com.backend.service.cluster.ClusterBrokerInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// 브로커 활성화는 StompBrokerConfiguration
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final ClusterBrokerInterceptor clusterBrokerInterceptor;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // 채널 스레드 풀 (기본값은 큐 무제한 → 제한 걸어서 폭주 시 거절)
+    @Value("${stomp.inbound.pool-size:8}")
+    private int inboundPoolSize;
+    @Value("${stomp.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+    @Value("${stomp.outbound.pool-size:8}")
+    private int outboundPoolSize;
+    @Value("${stomp.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 송신 한도 (느린 클라이언트 정책은 StompBrokerConfiguration)
+    @Value("${stomp.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+    @Value("${stomp.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${stomp.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // 브로커 heartbeat 용 (끊긴 연결을 감지해서 SessionDisconnectEvent 발생 → 접속 상태 정리)
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(org.springframework.messaging.simp.config.MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // /queue 는 /user/queue/** (보낸 사람에게만 가는 알림) 용, 직접 구독은 StompAuthChannelInterceptor 에서 막음
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{10000, 10000})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         config.setApplicationDestinationPrefixes("/app");
+        // 서버에서 발행한 채팅방/접속 상태 메시지를 다른 노드로도 전달 (cluster.mode)
+        config.configureBrokerChannel().interceptors(clusterBrokerInterceptor);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor, stompRateLimitInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
     }
 
     @Override
@@ -23,6 +90,8 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") // 특정 출처를 허용
                 .withSockJS();
+        // 같은 세션에서 보낸 프레임은 받은 순서대로 핸들러에 전달 (방 순서는 ChatRoomDispatcher 가 보장)
+        registry.setPreserveReceiveOrder(true);
     }
 
 }
\ No newline at end of file
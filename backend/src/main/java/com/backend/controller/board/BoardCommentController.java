@@ -1,6 +1,7 @@
 package com.backend.controller.board;
 
 import com.backend.domain.board.BoardComment;
+import com.backend.domain.board.BoardCommentPage;
 import com.backend.service.board.BoardCommentServivce;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +35,15 @@ public class BoardCommentController {
         return service.list(boardId);
     }
 
+    // ✅ 커서 기반 댓글 페이지 (새 댓글은 /topic/board/{boardId}/comments 로 푸시됨)
+    @GetMapping("list/{boardId}/page")
+    public BoardCommentPage pageComment(@PathVariable Integer boardId,
+                                        @RequestParam(required = false) Integer cursor,
+                                        @RequestParam(defaultValue = "20") Integer size,
+                                        @RequestParam(defaultValue = "desc") String order) {
+        return service.page(boardId, cursor, size, order);
+    }
+
     @DeleteMapping("remove")
     public ResponseEntity removeComment(@RequestBody BoardComment boardComment) {
 //        System.out.println("컨트롤러의 comment = " + boardComment);
@@ -1,14 +1,20 @@
 package com.backend.controller.board;
 
 import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardImageCard;
+import com.backend.domain.board.BoardPage;
 import com.backend.domain.board.DeleteRequest;
+import com.backend.domain.board.GuideBoardCard;
 import com.backend.service.board.BoardService;
+import com.backend.service.common.EntityVersionService;
+import com.backend.service.common.SparseFields;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -20,6 +26,7 @@ import java.util.Map;
 public class BoardController {
     final BoardService service;
     private final DefaultAuthenticationEventPublisher authenticationEventPublisher;
+    private final EntityVersionService versionService;
 
     @PostMapping("add")
     public ResponseEntity add(Board board,
@@ -41,24 +48,40 @@ public class BoardController {
     }
 
     @GetMapping("list")
-    public Map<String, Object> list(@RequestParam(defaultValue = "1") Integer page,
-                                    @RequestParam(defaultValue = "30") Integer pageAmount,
-                                    @RequestParam(defaultValue = "false") Boolean offsetReset,
-                                    HttpSession session,
-                                    @RequestParam(defaultValue = "전체") String boardType,
-                                    @RequestParam(defaultValue = "전체") String searchType,
-                                    @RequestParam(defaultValue = "") String keyword) throws Exception {
+    public Object list(@RequestParam(defaultValue = "1") Integer page,
+                       @RequestParam(defaultValue = "30") Integer pageAmount,
+                       @RequestParam(defaultValue = "false") Boolean offsetReset,
+                       HttpSession session,
+                       @RequestParam(defaultValue = "전체") String boardType,
+                       @RequestParam(defaultValue = "전체") String searchType,
+                       @RequestParam(defaultValue = "") String keyword,
+                       @RequestParam(required = false) String fields,
+                       WebRequest request) throws Exception {
 //        System.out.println("page = " + page);
 //        System.out.println("이것은 서비스의 searchType = " + searchType);
-        return service.list(page, pageAmount, offsetReset, session, boardType, searchType, keyword);
+        if (versionService.checkNotModified(request, EntityVersionService.BOARD_LIST, EntityVersionService.BOARD_VIEWS,
+                EntityVersionService.NICKNAMES)) {
+            return null;
+        }
+        BoardPage result = service.list(page, pageAmount, offsetReset, session, boardType, searchType, keyword);
+        return SparseFields.apply(result, fields);
     }
 
     @GetMapping("{id}")
-    public Map<String, Object> get(@PathVariable Integer id, @RequestParam(required = false) Integer memberId) {
+    public Map<String, Object> get(@PathVariable Integer id, @RequestParam(required = false) Integer memberId,
+                                   WebRequest request) {
 
         System.out.println("컨트롤러의 get요청 memberId = " + memberId);
 
-        return service.getByBoardIdAndMemberId(id, memberId);
+        // 이미 받은 응답과 버전이 같으면(그 뒤로 아무도 안 봄/수정 없음) 조회수를 올리지 않고 304
+        if (versionService.checkNotModified(request, EntityVersionService.board(id), EntityVersionService.NICKNAMES)) {
+            return null;
+        }
+
+        // 조회수 증가로 버전이 올라가므로 응답 본문(증가된 조회수)에 맞는 ETag 로 다시 세팅
+        Map<String, Object> result = service.getByBoardIdAndMemberId(id, memberId);
+        versionService.refreshValidators(request, EntityVersionService.board(id), EntityVersionService.NICKNAMES);
+        return result;
 
     }
 
@@ -125,7 +148,7 @@ public class BoardController {
     }
 
     @GetMapping("/report/list")
-    public Map<String, Object> reportList(@RequestParam(defaultValue = "1") Integer page,
+    public BoardPage reportList(@RequestParam(defaultValue = "1") Integer page,
                                           @RequestParam(defaultValue = "30") Integer pageAmount,
                                           @RequestParam(defaultValue = "false") Boolean offsetReset,
                                           HttpSession session,
@@ -174,14 +197,14 @@ public class BoardController {
     }
 
     @GetMapping("/topLikedImages")
-    public ResponseEntity<List<Map<String, Object>>> getTopLikedImages() {
-        List<Map<String, Object>> topLikedImages = service.getTopLikedImages();
+    public ResponseEntity<List<BoardImageCard>> getTopLikedImages() {
+        List<BoardImageCard> topLikedImages = service.getTopLikedImages();
         return ResponseEntity.ok(topLikedImages);
     }
 
     @GetMapping("/guide")
-    public ResponseEntity<List<Map<String, Object>>> getGuideBoards() {
-        List<Map<String, Object>> guideBoards = service.getGuideBoards();
-        return ResponseEntity.ok(guideBoards);
+    public ResponseEntity<Object> getGuideBoards(@RequestParam(required = false) String fields) {
+        List<GuideBoardCard> guideBoards = service.getGuideBoards();
+        return ResponseEntity.ok(SparseFields.apply(guideBoards, fields));
     }
 }
@@ -1,50 +1,144 @@
 package com.backend.controller.chat;
 
+import com.backend.domain.chat.ChatHistoryPage;
+import com.backend.domain.chat.ChatInboxPage;
 import com.backend.domain.chat.ChatMessage;
+import com.backend.domain.chat.ChatSendError;
+import com.backend.security.CustomUserDetails;
+import com.backend.service.chat.ChatRoomDispatcher;
+import com.backend.service.chat.ChatRoomService;
 import com.backend.service.chat.MessageService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
 import java.time.LocalDateTime;
-import java.util.List;
 
+@Slf4j
 @Controller
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class ChatController {
 	private final MessageService service;
 	private final SimpMessageSendingOperations messagingTemplate;
+	private final ChatRoomDispatcher dispatcher;
+	private final ChatRoomService chatRoomService;
 
+	// ✅ 같은 방 메시지는 같은 lane 에서 순서대로 (시간 설정 → 저장 → 전송 모두 lane 안에서)
 	@MessageMapping("/chat/{roomId}")
-	public void processMessage(@Payload ChatMessage message, @DestinationVariable String roomId) {
+	public void processMessage(@Payload ChatMessage message, @DestinationVariable String roomId, Principal principal) {
+		// ✅ 보낸 사람은 payload 가 아니라 CONNECT 때 인증된 세션 사용자
+		if (!(principal instanceof UsernamePasswordAuthenticationToken auth)
+				|| !(auth.getPrincipal() instanceof CustomUserDetails user)) {
+			return;
+		}
+		message.setSenderId(user.getId());
+		message.setSenderNickName(user.getNickname());
+		if (ChatRoomService.groupId(roomId) != null) {
+			// 그룹방: 멤버만 전송, 한 행 저장 + 한 번 발행 (받는 사람 없음)
+			if (!chatRoomService.isMember(roomId, user.getId())) {
+				log.warn("chat message for a group room the sender is not part of: room={}, sender={}", roomId, user.getId());
+				return;
+			}
+			message.setRecipientId(null);
+			message.setRecipientNickName(null);
+			message.setRoomKey(roomId);
+		} else if (message.getRecipientId() == null
+				|| !MessageService.roomKey(user.getId(), message.getRecipientId()).equals(roomId)) {
+			log.warn("chat message for a room the sender is not part of: room={}, sender={}", roomId, user.getId());
+			return;
+		}
+		if (!dispatcher.dispatch(roomId, () -> deliver(message, roomId, principal))) {
+			log.warn("chat lane full, message rejected: room={}", roomId);
+			reject(principal, roomId, ChatSendError.LANE_FULL, message);
+		}
+	}
+
+	private void deliver(ChatMessage message, String roomId, Principal principal) {
 		message.setTimestamp(LocalDateTime.now()); // 현재 시간 설정
+		// ✅ 별도 POST /api/chat 없이 여기서 바로 저장 큐에 넣음, 저장 못 하는 메시지는 전송하지 않고 보낸 사람에게 알림
+		if (!service.saveMessage(message)) {
+			log.warn("chat queue full, message rejected: room={}", roomId);
+			reject(principal, roomId, ChatSendError.QUEUE_FULL, message);
+			return;
+		}
 		messagingTemplate.convertAndSend("/topic/chatroom/" + roomId, message);
 	}
 
-	@PostMapping("/chat")
-	@ResponseBody
-	public void saveMessage(@RequestBody ChatMessage message) {
-		System.out.println("Received message: " + message);
-		service.saveMessage(message);
+	// 보낸 사람의 세션으로만 (/user/queue/errors)
+	private void reject(Principal principal, String roomId, String reason, ChatMessage message) {
+		messagingTemplate.convertAndSendToUser(principal.getName(), "/queue/errors",
+				new ChatSendError(roomId, reason, message.getContent()));
 	}
 
 	@GetMapping("/chat/messages/{roomId}")
 	@ResponseBody
-	public List<ChatMessage> getMessagesForRoom(@PathVariable String roomId) {
-		// roomId를 senderId와 recipientId로 분리
+	public ResponseEntity<ChatHistoryPage> getMessagesForRoom(@PathVariable String roomId,
+															  @AuthenticationPrincipal CustomUserDetails user,
+															  @RequestParam(required = false) Integer before,
+															  @RequestParam(defaultValue = "50") int size) {
+		// 그룹방("g{id}")은 멤버만 조회
+		if (ChatRoomService.groupId(roomId) != null) {
+			if (user == null || !chatRoomService.isMember(roomId, user.getId())) {
+				return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+			}
+			return ResponseEntity.ok(service.getMessagesForRoom(roomId, before, size));
+		}
+		// roomId를 senderId와 recipientId로 분리 (형식이 틀리면 400), 1:1 방은 두 사람만 조회
 		String[] ids = roomId.split("-");
-		Integer id1 = Integer.parseInt(ids[0]);
-		Integer id2 = Integer.parseInt(ids[1]);
-		return service.getMessagesForRoom(id1, id2);
+		if (ids.length != 2) {
+			return ResponseEntity.badRequest().build();
+		}
+		Integer id1;
+		Integer id2;
+		try {
+			id1 = Integer.parseInt(ids[0]);
+			id2 = Integer.parseInt(ids[1]);
+		} catch (NumberFormatException e) {
+			return ResponseEntity.badRequest().build();
+		}
+		if (user == null || !(user.getId().equals(id1) || user.getId().equals(id2))) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		return ResponseEntity.ok(service.getMessagesForRoom(MessageService.roomKey(id1, id2), before, size));
+	}
+
+	// 내 대화 목록 (최근 대화 순, before* 로 다음 페이지)
+	@GetMapping("/chat/conversations")
+	@ResponseBody
+	public ChatInboxPage getInbox(@AuthenticationPrincipal CustomUserDetails user,
+								  @RequestParam(required = false)
+								  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeTime,
+								  @RequestParam(required = false) String beforeRoomKey,
+								  @RequestParam(defaultValue = "20") int size) {
+		return service.getInbox(user.getId(), beforeTime, beforeRoomKey, size);
+	}
+
+	// messageId 까지 읽음 (없으면 전부)
+	@PostMapping("/chat/conversations/{roomKey}/read")
+	@ResponseBody
+	public ResponseEntity<Void> markRead(@AuthenticationPrincipal CustomUserDetails user,
+										 @PathVariable String roomKey,
+										 @RequestParam(required = false) Integer messageId) {
+		if (!service.markRead(user.getId(), roomKey, messageId)) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok().build();
 	}
 }
@@ -0,0 +1,66 @@
+package com.backend.controller.chat;
+
+import com.backend.domain.chat.ChatRoom;
+import com.backend.security.CustomUserDetails;
+import com.backend.service.chat.ChatRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+// 그룹 대화방 (메시지 전송/조회는 ChatController 의 /chat/{roomId}, /chat/messages/{roomId} 를 "g{id}" 로)
+@RestController
+@RequestMapping("/api/chat/rooms")
+@RequiredArgsConstructor
+public class ChatRoomController {
+	private final ChatRoomService chatRoomService;
+
+	@PostMapping
+	public ResponseEntity<ChatRoom> create(@AuthenticationPrincipal CustomUserDetails user,
+										   @RequestBody ChatRoom request) {
+		ChatRoom room = chatRoomService.create(user.getId(), request.getName(), request.getMemberIds());
+		if (room == null) {
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(room);
+	}
+
+	@GetMapping("/{roomId}/members")
+	public ResponseEntity<Set<Integer>> members(@AuthenticationPrincipal CustomUserDetails user,
+												@PathVariable Integer roomId) {
+		Set<Integer> members = chatRoomService.members(roomId, user.getId());
+		if (members == null) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		return ResponseEntity.ok(members);
+	}
+
+	@PostMapping("/{roomId}/members")
+	public ResponseEntity<Void> addMembers(@AuthenticationPrincipal CustomUserDetails user,
+										   @PathVariable Integer roomId,
+										   @RequestBody List<Integer> memberIds) {
+		if (!chatRoomService.addMembers(roomId, user.getId(), memberIds)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		return ResponseEntity.ok().build();
+	}
+
+	@DeleteMapping("/{roomId}/members/me")
+	public ResponseEntity<Void> leave(@AuthenticationPrincipal CustomUserDetails user,
+									  @PathVariable Integer roomId) {
+		if (!chatRoomService.leave(roomId, user.getId())) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok().build();
+	}
+}
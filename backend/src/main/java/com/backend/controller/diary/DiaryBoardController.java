@@ -1,7 +1,10 @@
 package com.backend.controller.diary;
 
 import com.backend.domain.diary.DiaryBoard;
+import com.backend.domain.diary.DiaryBoardPage;
 import com.backend.security.CustomUserDetails;
+import com.backend.service.common.EntityVersionService;
+import com.backend.service.common.SparseFields;
 import com.backend.service.diary.DiaryBoardService;
 import com.backend.service.diary.DiaryService;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -26,6 +30,7 @@ public class DiaryBoardController {
 
     private final DiaryBoardService diaryBoardService;
     private final DiaryService diaryService; // memberId로 diary PK 조회용
+    private final EntityVersionService versionService;
 
     @PostMapping("/add")
     @PreAuthorize("isAuthenticated()")
@@ -86,16 +91,21 @@ public class DiaryBoardController {
     }
 
     @GetMapping("/list")
-    public Map<String, Object> list(@RequestParam(defaultValue = "1") Integer page,
-                                    @RequestParam(value = "type", required = false) String searchType,
-                                    @RequestParam(value = "keyword", defaultValue = "") String keyword,
-                                    @RequestParam(value = "memberId", required = false) Integer memberId,
-                                    @RequestParam(value = "diaryId", required = false) Integer diaryId) {
-        return diaryBoardService.list(page, searchType, keyword, memberId, diaryId);
+    public Object list(@RequestParam(defaultValue = "1") Integer page,
+                       @RequestParam(value = "type", required = false) String searchType,
+                       @RequestParam(value = "keyword", defaultValue = "") String keyword,
+                       @RequestParam(value = "memberId", required = false) Integer memberId,
+                       @RequestParam(value = "diaryId", required = false) Integer diaryId,
+                       @RequestParam(required = false) String fields) {
+        DiaryBoardPage result = diaryBoardService.list(page, searchType, keyword, memberId, diaryId);
+        return SparseFields.apply(result, fields);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> get(@PathVariable Integer id) {
+    public ResponseEntity<?> get(@PathVariable Integer id, WebRequest request) {
+        if (versionService.checkNotModified(request, EntityVersionService.diaryBoard(id), EntityVersionService.NICKNAMES)) {
+            return null;
+        }
         DiaryBoard diaryBoard = diaryBoardService.get(id);
         return diaryBoard == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(diaryBoard);
     }
@@ -132,11 +142,12 @@ public class DiaryBoardController {
     }
 
     @GetMapping("/{id}/recent-boards")
-    public ResponseEntity<List<DiaryBoard>> getRecentBoards(
+    public ResponseEntity<Object> getRecentBoards(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "5") int limit) {
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) String fields) {
         List<DiaryBoard> boards = diaryBoardService.getRecentBoards(id, limit);
-        return ResponseEntity.ok(boards);
+        return ResponseEntity.ok(SparseFields.apply(boards, fields));
     }
 
 
@@ -1,14 +1,18 @@
 package com.backend.controller.diary;
 
 import com.backend.domain.diary.DiaryComment;
+import com.backend.domain.diary.DiaryCommentPage;
 import com.backend.service.diary.DiaryCommentService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -43,7 +47,7 @@ public class DiaryCommentController {
     // ✅ 부모 댓글 목록 (페이징, 대댓글 미리보기 포함)
     // ✅ 부모 댓글 목록 (페이징 + 검색)
     @GetMapping("/list")
-    public ResponseEntity<Map<String, Object>> list(
+    public ResponseEntity<?> list(
             @RequestParam Integer diaryId,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int pageSize,
@@ -57,7 +61,7 @@ public class DiaryCommentController {
                     .body(Map.of("isValid", false, "message", "잘못된 접근"));
         }
 
-        Map<String, Object> response = service.list(diaryId, page, pageSize, type, keyword);
+        DiaryCommentPage response = service.list(diaryId, page, pageSize, type, keyword);
         return ResponseEntity.ok(response);
     }
 
@@ -150,11 +154,16 @@ public class DiaryCommentController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<DiaryComment>> all(@RequestParam Integer diaryId,
-                                                  Authentication authentication) {
+    public void all(@RequestParam Integer diaryId,
+                    Authentication authentication,
+                    HttpServletResponse response) throws IOException {
         if (!service.canAccessDiary(diaryId, authentication)) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
         }
-        return ResponseEntity.ok(service.selectAllByDiaryId(diaryId));
+        // 댓글 수와 무관하게 메모리 사용량이 일정하도록 행 단위로 바로 씀
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        service.streamAllByDiaryId(diaryId, response.getOutputStream());
     }
 }
\ No newline at end of file
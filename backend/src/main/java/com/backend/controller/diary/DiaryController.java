@@ -4,6 +4,7 @@ import com.backend.domain.diary.DiaryProfile;
 import com.backend.domain.diary.MoodStat;
 import com.backend.domain.member.Member;
 import com.backend.security.CustomUserDetails;
+import com.backend.service.common.EntityVersionService;
 import com.backend.service.diary.DiaryFileService;
 import com.backend.service.diary.DiaryProfileService;
 import com.backend.service.diary.DiaryService;
@@ -16,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -34,6 +36,7 @@ public class DiaryController {
     private final DiaryFileService diaryFileService;
     private final MemberService memberService;
     private final FriendsService friendsService;
+    private final EntityVersionService versionService;
 
     /**
      * memberId 또는 encodedId(DIARY-xxx-ID)로 다이어리 조회
@@ -119,7 +122,10 @@ public class DiaryController {
     }
 
     @GetMapping("/profile/{ownerId}")
-    public ResponseEntity<Map<String, Object>> getProfile(@PathVariable Integer ownerId) {
+    public ResponseEntity<Map<String, Object>> getProfile(@PathVariable Integer ownerId, WebRequest request) {
+        if (versionService.checkNotModified(request, EntityVersionService.diaryProfile(ownerId))) {
+            return null;
+        }
         Map<String, Object> response = new HashMap<>();
         DiaryProfile diaryProfile = diaryProfileService.getProfileByMemberId(ownerId);
         System.out.println("ownerId 입니다 = " + ownerId);
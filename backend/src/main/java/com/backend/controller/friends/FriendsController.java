@@ -1,7 +1,10 @@
 package com.backend.controller.friends;
 
+import com.backend.domain.friends.FriendCheckBatchRequest;
 import com.backend.domain.friends.FriendDto;
+import com.backend.domain.friends.FriendRecommendation;
 import com.backend.domain.friends.FriendRequest;
+import com.backend.service.friends.FriendRecommendationService;
 import com.backend.service.friends.FriendsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,16 +12,24 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api/friends")
 public class FriendsController {
 
 	private final FriendsService friendsService;
+	private final FriendRecommendationService recommendationService;
+	// 일괄 확인 한 번에 받을 수 있는 최대 id 수
+	private static final int MAX_BATCH_CHECK = 500;
 	private static final Logger logger = LoggerFactory.getLogger(FriendsController.class);
 
-	public FriendsController(FriendsService friendsService) {
+	public FriendsController(FriendsService friendsService, FriendRecommendationService recommendationService) {
 		this.friendsService = friendsService;
+		this.recommendationService = recommendationService;
 	}
 
 	@GetMapping("/{memberId}")
@@ -29,6 +40,25 @@ public class FriendsController {
 		return friends;
 	}
 
+	// 알 수도 있는 사람 (공통 친구 수 순)
+	@GetMapping("/{memberId}/recommendations")
+	public ResponseEntity<List<FriendRecommendation>> getRecommendations(@PathVariable Integer memberId,
+																		 @RequestParam(defaultValue = "10") int limit) {
+		try {
+			return ResponseEntity.ok(recommendationService.recommend(memberId, limit));
+		} catch (RejectedExecutionException | TimeoutException e) {
+			// 계산 풀이 가득 찼거나 시간 초과
+			logger.warn("Recommendation unavailable for member ID {}: {}", memberId, e.toString());
+			return ResponseEntity.status(503).build();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return ResponseEntity.status(503).build();
+		} catch (Exception e) {
+			logger.error("Error computing recommendations", e);
+			return ResponseEntity.status(500).build();
+		}
+	}
+
 	@PostMapping("/add")
 	public ResponseEntity<String> addFriend(@RequestBody FriendRequest friendRequest) {
 		logger.info("Received request to add friend: {}", friendRequest);
@@ -48,6 +78,20 @@ public class FriendsController {
 		return ResponseEntity.ok(isFriend);
 	}
 
+	// 여러 회원의 친구 여부를 한 번에 (목록 화면에서 행마다 /check 호출하던 것 대체)
+	@PostMapping("/check/batch")
+	public ResponseEntity<Map<Integer, Boolean>> checkFriendships(@RequestBody FriendCheckBatchRequest request) {
+		if (request.getMemberId() == null || request.getFriendIds() == null
+				|| request.getFriendIds().size() > MAX_BATCH_CHECK) {
+			return ResponseEntity.badRequest().build();
+		}
+		List<Integer> friendIds = request.getFriendIds().stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.toList();
+		return ResponseEntity.ok(friendsService.checkFriendships(request.getMemberId(), friendIds));
+	}
+
 	@DeleteMapping("/delete")
 	public ResponseEntity<String> deleteFriend(@RequestParam Integer memberId, @RequestParam Integer friendId) {
 		logger.info("Received request to delete friend. Member ID: {}, Friend ID: {}", memberId, friendId);
@@ -1,8 +1,10 @@
 package com.backend.controller.member;
 
 import com.backend.domain.member.Member;
+import com.backend.domain.member.MemberPage;
 import com.backend.domain.member.Profile;
 import com.backend.security.CustomUserDetails;
+import com.backend.service.common.EntityVersionService;
 import com.backend.service.member.EmailSenderService;
 import com.backend.service.member.MemberService;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
@@ -24,6 +27,7 @@ public class MemberController {
 
     private final MemberService service;
     private final EmailSenderService emailSenderService;
+    private final EntityVersionService versionService;
 
     // 회원가입
     @PostMapping("/signup")
@@ -73,7 +77,8 @@ public class MemberController {
 
     @GetMapping("/{id}")
     public ResponseEntity<Member> getById(@PathVariable Integer id,
-                                          @AuthenticationPrincipal CustomUserDetails user) {
+                                          @AuthenticationPrincipal CustomUserDetails user,
+                                          WebRequest request) {
         // 로그인 안 한 경우 user가 null
         if (user != null) {
             System.out.println("로그인한 사용자 ID: " + user.getId());
@@ -81,6 +86,10 @@ public class MemberController {
             System.out.println("비로그인 접근");
         }
 
+        if (versionService.checkNotModified(request, EntityVersionService.member(id))) {
+            return null;
+        }
+
         Member member = service.getById(id);
         if (member == null) {
             return ResponseEntity.notFound().build();
@@ -178,10 +187,10 @@ public class MemberController {
 
     // 회원 목록 (관리자 전용)
     @GetMapping("/list")
-    public ResponseEntity<Map<String, Object>> getMemberList(
+    public ResponseEntity<MemberPage> getMemberList(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int pageSize) {
-        Map<String, Object> response = service.list(page, pageSize);
+        MemberPage response = service.list(page, pageSize);
         return ResponseEntity.ok(response);
     }
 
@@ -194,14 +203,15 @@ public class MemberController {
     // 비밀번호 찾기 이메일 발송 (로그인 전)
     @Transactional
     @PostMapping("/sendEmail")
-    public ResponseEntity<String> sendEmail(@RequestBody Map<String, String> request) {
+    public ResponseEntity<Void> sendEmail(@RequestBody Map<String, String> request) {
         String username = request.get("username");
         Member memberEmail = service.getByUsername(username);
         if (memberEmail == null) {
             return ResponseEntity.notFound().build();
         }
-        String tempPassword = emailSenderService.createMail(username);
-        return ResponseEntity.ok(tempPassword);
+        // 발송 대기열(email_outbox)에 커밋되면 바로 응답, 실제 발송은 백그라운드
+        emailSenderService.createMail(username);
+        return ResponseEntity.ok().build();
     }
 
     // OAuth 로그인 후 내 정보 조회 (로그인 후)
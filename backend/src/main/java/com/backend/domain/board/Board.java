@@ -1,5 +1,8 @@
 package com.backend.domain.board;
 
+import com.backend.service.common.SparseFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,10 +13,13 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonFilter(SparseFields.FILTER_ID)
 public class Board {
     private Integer id;
     private String title;
     private String content;
+    @JsonIgnore
+    private String excerpt; // 저장용 목록 요약 (목록 쿼리는 content 로 조회해서 응답 키 유지)
     private String writer;
     private Integer memberId;
     private LocalDateTime inserted;
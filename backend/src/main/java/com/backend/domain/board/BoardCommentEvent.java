@@ -0,0 +1,20 @@
+package com.backend.domain.board;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// /topic/board/{boardId}/comments 로 전송되는 댓글 변경 이벤트
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BoardCommentEvent(String type, Integer id, BoardComment comment) {
+
+    public static BoardCommentEvent added(BoardComment comment) {
+        return new BoardCommentEvent("ADD", comment.getId(), comment);
+    }
+
+    public static BoardCommentEvent updated(BoardComment comment) {
+        return new BoardCommentEvent("UPDATE", comment.getId(), comment);
+    }
+
+    public static BoardCommentEvent removed(Integer id) {
+        return new BoardCommentEvent("REMOVE", id, null);
+    }
+}
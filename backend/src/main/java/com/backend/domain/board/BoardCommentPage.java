@@ -0,0 +1,6 @@
+package com.backend.domain.board;
+
+import java.util.List;
+
+public record BoardCommentPage(List<BoardComment> comments, Integer nextCursor, boolean hasNext) {
+}
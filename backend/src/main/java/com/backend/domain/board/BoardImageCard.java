@@ -0,0 +1,13 @@
+package com.backend.domain.board;
+
+// 홈 화면 인기 사진 카드
+public record BoardImageCard(Integer id,
+                             String title,
+                             String writer,
+                             String imageUrl,
+                             Long numberOfLikes) {
+
+    public BoardImageCard withImageUrl(String imageUrl) {
+        return new BoardImageCard(id, title, writer, imageUrl, numberOfLikes);
+    }
+}
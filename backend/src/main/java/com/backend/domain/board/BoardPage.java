@@ -0,0 +1,8 @@
+package com.backend.domain.board;
+
+import com.backend.domain.common.PageInfo;
+
+import java.util.List;
+
+public record BoardPage(PageInfo pageInfo, List<Board> boardList) {
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.board;
+
+import com.backend.service.common.SparseFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 홈 화면 반려동물 정보 카드 (기존 Map 응답과 같은 키 유지, content 에는 본문 대신 board.excerpt)
+@JsonFilter(SparseFields.FILTER_ID)
+public record GuideBoardCard(Integer id,
+                             String title,
+                             String content,
+                             String writer,
+                             String imageUrl,
+                             Long numberOfLikes,
+                             Long numberOfComments,
+                             Integer views,
+                             @JsonProperty("board_type") String boardType,
+                             @JsonProperty("number_of_images") Long numberOfImages) {
+
+    public GuideBoardCard withImageUrl(String imageUrl) {
+        return new GuideBoardCard(id, title, content, writer, imageUrl, numberOfLikes, numberOfComments,
+                views, boardType, numberOfImages);
+    }
+}
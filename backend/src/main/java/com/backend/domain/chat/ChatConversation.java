@@ -0,0 +1,20 @@
+package com.backend.domain.chat;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 대화 목록 한 줄 (회원 1명 기준 대화방 요약, chat_conversation)
+@Data
+public class ChatConversation {
+	private Integer memberId;
+	private String roomKey;
+	private Integer roomId; // 그룹방이면 chat_room.id (peerId 없음, peerNickname 은 방 이름)
+	private Integer peerId;
+	private String peerNickname;
+	private String lastMessage;
+	private Integer lastMessageId;
+	private LocalDateTime lastTimestamp;
+	private Integer unreadCount;
+	private Integer lastReadMessageId;
+}
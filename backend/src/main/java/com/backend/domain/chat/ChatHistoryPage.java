@@ -0,0 +1,7 @@
+package com.backend.domain.chat;
+
+import java.util.List;
+
+// 채팅방 최근 메시지 (오래된 순), before 로 이전 페이지 조회
+public record ChatHistoryPage(List<ChatMessage> messages, Integer before, boolean hasMore) {
+}
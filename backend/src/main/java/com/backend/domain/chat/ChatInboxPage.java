@@ -0,0 +1,11 @@
+package com.backend.domain.chat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 대화 목록 (최근 순), 다음 페이지는 (beforeTime, beforeRoomKey) 로 조회
+public record ChatInboxPage(List<ChatConversation> conversations,
+							LocalDateTime beforeTime,
+							String beforeRoomKey,
+							boolean hasMore) {
+}
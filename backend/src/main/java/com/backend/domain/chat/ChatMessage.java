@@ -1,15 +1,19 @@
 package com.backend.domain.chat;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 public class ChatMessage {
-	private Integer id; // 자동 증가 ID 필드
+	private volatile Integer id; // 자동 증가 ID 필드 (저장 스레드가 채우고 버퍼 조회 스레드가 읽음)
 	private Integer senderId;
 	private Integer recipientId;
 	private String content;
 	private LocalDateTime timestamp = LocalDateTime.now();
 	private String senderNickName;
 	private String recipientNickName;
+	private String roomKey; // "작은id-큰id" (두 사람 대화방 고유 키)
+	@JsonIgnore
+	private Long logId; // 로컬 채팅 로그 위치 (ChatMessageLog), 재시작 시 어디까지 저장됐는지 판단용
 }
@@ -0,0 +1,10 @@
+package com.backend.domain.chat;
+
+import lombok.Data;
+
+// chat_message 파티션 (information_schema.PARTITIONS), description 은 상한 ('2026-11-01 00:00:00' 또는 MAXVALUE)
+@Data
+public class ChatPartition {
+	private String name;
+	private String description;
+}
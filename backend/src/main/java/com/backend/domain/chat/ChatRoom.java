@@ -0,0 +1,16 @@
+package com.backend.domain.chat;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 그룹 대화방 (chat_room), 메시지의 room_key 는 "g{id}"
+@Data
+public class ChatRoom {
+	private Integer id;
+	private String name;
+	private Integer ownerId;
+	private LocalDateTime createdAt;
+	private List<Integer> memberIds; // 생성/초대 요청용
+}
@@ -0,0 +1,26 @@
+package com.backend.domain.chat;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 저장 배치 하나에서 그룹방 한 곳의 변경분 (멤버 대화 요약을 UPDATE 한 번으로 갱신)
+@Data
+public class ChatRoomActivity {
+	private String roomKey;
+	private String lastMessage;
+	private Integer lastMessageId;
+	private LocalDateTime lastTimestamp;
+	private int messageCount;
+	private List<Sender> senders = new ArrayList<>();
+
+	// 보낸 사람은 자기 메시지만큼 안 읽은 수에서 빼고 마지막으로 보낸 id 까지 읽음 처리
+	@Data
+	public static class Sender {
+		private Integer memberId;
+		private int count;
+		private Integer lastId;
+	}
+}
@@ -0,0 +1,8 @@
+package com.backend.domain.chat;
+
+// 보낸 사람에게만 가는 전송 실패 알림 (/user/queue/errors), content 는 다시 보낼 수 있도록 그대로 돌려줌
+public record ChatSendError(String roomId, String reason, String content) {
+
+    public static final String LANE_FULL = "LANE_FULL";   // 방 처리 lane 가득 참 (ChatRoomDispatcher)
+    public static final String QUEUE_FULL = "QUEUE_FULL"; // 저장 큐 가득 참 (ChatMessageWriter)
+}
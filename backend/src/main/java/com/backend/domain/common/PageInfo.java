@@ -0,0 +1,14 @@
+package com.backend.domain.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 번호형 페이지네이션 정보 (이전/다음 블록이 없으면 필드 생략)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageInfo(int currentPageNumber,
+                       Integer prevPageNumber,
+                       Integer nextPageNumber,
+                       int lastPageNumber,
+                       int leftPageNumber,
+                       int rightPageNumber,
+                       Integer offset) {
+}
@@ -1,5 +1,8 @@
 package com.backend.domain.diary;
 
+import com.backend.service.common.SparseFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 import java.time.LocalDate;
@@ -7,11 +10,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
+@JsonFilter(SparseFields.FILTER_ID)
 public class DiaryBoard {
     private Integer id;              // diary.board.id(게시글 pk)
     private Integer diaryId;
     private String title;
     private String content;
+    @JsonIgnore
+    private String excerpt;          // 목록용 요약 (작성/수정 시 계산), 목록 쿼리는 content 로 조회해서 응답 키 유지
     private String nickname;
     private String writer;
     private Integer memberId;        // member.id
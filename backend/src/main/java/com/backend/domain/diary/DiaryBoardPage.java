@@ -0,0 +1,8 @@
+package com.backend.domain.diary;
+
+import com.backend.domain.common.PageInfo;
+
+import java.util.List;
+
+public record DiaryBoardPage(PageInfo pageInfo, List<DiaryBoard> diaryBoardList) {
+}
@@ -0,0 +1,6 @@
+package com.backend.domain.diary;
+
+import java.util.List;
+
+public record DiaryCommentPage(List<DiaryComment> comments, int totalPages, int currentPage) {
+}
@@ -0,0 +1,12 @@
+package com.backend.domain.friends;
+
+import lombok.Data;
+
+import java.util.List;
+
+// 한 회원 기준으로 여러 회원의 친구 여부를 한 번에 확인
+@Data
+public class FriendCheckBatchRequest {
+	private Integer memberId;
+	private List<Integer> friendIds;
+}
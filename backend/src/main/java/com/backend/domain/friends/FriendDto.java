@@ -7,6 +7,9 @@ public class FriendDto {
 
 	// Constructors, getters, and setters
 
+	public FriendDto() {
+	}
+
 	public FriendDto(Integer id, String nickname, Boolean online) {
 		this.id = id;
 		this.nickname = nickname;
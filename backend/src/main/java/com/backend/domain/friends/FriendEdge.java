@@ -0,0 +1,10 @@
+package com.backend.domain.friends;
+
+import lombok.Data;
+
+// friends 테이블 한 행 (member_id → friend_id), 친구 그래프 적재용
+@Data
+public class FriendEdge {
+	private int memberId;
+	private int friendId;
+}
@@ -0,0 +1,5 @@
+package com.backend.domain.friends;
+
+// 알 수도 있는 사람 (공통 친구 수 기준)
+public record FriendRecommendation(Integer memberId, String nickname, int mutualCount) {
+}
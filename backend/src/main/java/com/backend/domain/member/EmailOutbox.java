@@ -0,0 +1,22 @@
+package com.backend.domain.member;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 발송 대기 메일 (email_outbox), 발송에 성공해야 passwordHash 를 회원 비밀번호로 반영
+@Data
+public class EmailOutbox {
+    private Long id;
+    private String recipient;
+    private String subject;
+    private String body;
+    private String username;
+    private String passwordHash;
+    private String status; // PENDING, SENDING, SENT, FAILED, SUPERSEDED
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
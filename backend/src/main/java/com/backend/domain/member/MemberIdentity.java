@@ -0,0 +1,21 @@
+package com.backend.domain.member;
+
+import lombok.Data;
+
+// 회원 식별 정보만 (비밀번호 해시 없음), MemberCache 에 보관
+@Data
+public class MemberIdentity {
+    private Integer id;
+    private String username;
+    private String nickname;
+    private Role role;
+
+    public Member toMember() {
+        Member member = new Member();
+        member.setId(id);
+        member.setUsername(username);
+        member.setNickname(nickname);
+        member.setRole(role);
+        return member;
+    }
+}
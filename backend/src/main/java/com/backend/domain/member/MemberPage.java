@@ -0,0 +1,6 @@
+package com.backend.domain.member;
+
+import java.util.List;
+
+public record MemberPage(List<Member> members, int totalPages, int currentPage) {
+}
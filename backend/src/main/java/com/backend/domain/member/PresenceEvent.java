@@ -0,0 +1,5 @@
+package com.backend.domain.member;
+
+// /topic/presence/{memberId} 로 보내는 접속 상태 변경
+public record PresenceEvent(Integer memberId, boolean online) {
+}
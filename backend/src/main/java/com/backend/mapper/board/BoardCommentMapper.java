@@ -13,8 +13,55 @@ public interface BoardCommentMapper {
             (board_id, board_comment,member_id) 
             VALUES (#{boardId}, #{boardComment},#{memberId})
                         """)
+    @Options(useGeneratedKeys = true, keyProperty = "id")
     int insert(BoardComment comment);
 
+    @Select("""
+            SELECT c.id, c.board_id, c.board_comment, c.inserted, m.nickname writer, c.member_id
+            FROM board_comment c JOIN member m ON c.member_id = m.id
+            WHERE c.id = #{id}
+            """)
+    BoardComment selectById(Integer id);
+
+    @Select("""
+            SELECT board_id
+            FROM board_comment
+            WHERE id = #{id}
+            """)
+    Integer selectBoardIdById(Integer id);
+
+    // 커서 기반 페이징 (board_id, id 인덱스 사용)
+    @Select("""
+            <script>
+            SELECT c.id, c.board_id, c.board_comment, c.inserted, m.nickname writer, c.member_id
+            FROM board_comment c JOIN member m ON c.member_id = m.id
+            WHERE c.board_id = #{boardId}
+            <if test="cursor != null">
+                <choose>
+                    <when test="newestFirst">
+                        AND c.id &lt; #{cursor}
+                    </when>
+                    <otherwise>
+                        AND c.id &gt; #{cursor}
+                    </otherwise>
+                </choose>
+            </if>
+            <choose>
+                <when test="newestFirst">
+                    ORDER BY c.id DESC
+                </when>
+                <otherwise>
+                    ORDER BY c.id ASC
+                </otherwise>
+            </choose>
+            LIMIT #{limit}
+            </script>
+            """)
+    List<BoardComment> selectPageByBoardId(@Param("boardId") Integer boardId,
+                                           @Param("cursor") Integer cursor,
+                                           @Param("newestFirst") boolean newestFirst,
+                                           @Param("limit") int limit);
+
     @Select("""
                         SELECT c.id, c.board_comment,c.inserted,m.nickname writer,c.member_id
             FROM board_comment c JOIN member m ON c.member_id=m.id
@@ -1,19 +1,20 @@
 package com.backend.mapper.board;
 
 import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardImageCard;
 import com.backend.domain.board.BoardReport;
+import com.backend.domain.board.GuideBoardCard;
 import org.apache.ibatis.annotations.*;
 
 import java.util.List;
-import java.util.Map;
 
 @Mapper
 public interface BoardMapper {
 
 
     @Insert("""
-            INSERT INTO board(title,content,member_id,views,board_type)
-            VALUES (#{title},#{content},#{memberId},0,#{boardType})
+            INSERT INTO board(title,content,excerpt,member_id,views,board_type)
+            VALUES (#{title},#{content},#{excerpt},#{memberId},0,#{boardType})
                         """)
     @Options(useGeneratedKeys = true, keyProperty = "id")
     int insert(Board board);
@@ -47,7 +48,7 @@ public interface BoardMapper {
 
     @Update("""
                     UPDATE board
-                    SET title=#{title},content=#{content}
+                    SET title=#{title},content=#{content},excerpt=#{excerpt}
                     WHERE id=#{id}
             """)
     int update(Board board);
@@ -410,13 +411,20 @@ public interface BoardMapper {
                  numberOfLikes DESC
              LIMIT 4
             """)
-    List<Map<String, Object>> selectTopLikedImages();
+    @ConstructorArgs({
+            @Arg(column = "id", javaType = Integer.class),
+            @Arg(column = "title", javaType = String.class),
+            @Arg(column = "writer", javaType = String.class),
+            @Arg(column = "imageUrl", javaType = String.class),
+            @Arg(column = "numberOfLikes", javaType = Long.class)
+    })
+    List<BoardImageCard> selectTopLikedImages();
 
     @Select("""
                 SELECT 
                     b.id,
                     b.title,
-                    b.content,
+                    b.excerpt AS content,
                     m.nickname AS writer,
                     bf.name AS imageUrl,
                     COUNT(bl.board_id) AS numberOfLikes,
@@ -439,10 +447,22 @@ public interface BoardMapper {
                 WHERE 
                     b.board_type = '반려동물 정보'
                 GROUP BY 
-                    b.id, b.title, b.content, m.nickname, bf.name, b.views, b.board_type
+                    b.id, b.title, b.excerpt, m.nickname, bf.name, b.views, b.board_type
                 ORDER BY 
                     b.inserted DESC
                 LIMIT 4
             """)
-    List<Map<String, Object>> selectGuideBoards();
+    @ConstructorArgs({
+            @Arg(column = "id", javaType = Integer.class),
+            @Arg(column = "title", javaType = String.class),
+            @Arg(column = "content", javaType = String.class),
+            @Arg(column = "writer", javaType = String.class),
+            @Arg(column = "imageUrl", javaType = String.class),
+            @Arg(column = "numberOfLikes", javaType = Long.class),
+            @Arg(column = "numberOfComments", javaType = Long.class),
+            @Arg(column = "views", javaType = Integer.class),
+            @Arg(column = "board_type", javaType = String.class),
+            @Arg(column = "number_of_images", javaType = Long.class)
+    })
+    List<GuideBoardCard> selectGuideBoards();
 }
@@ -0,0 +1,45 @@
+package com.backend.mapper.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.backend.domain.chat.ChatPartition;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
+
+// 파티션 이름/상한은 ChatPartitionManager 가 만든 값만 사용 (${} 치환)
+@Mapper
+public interface ChatPartitionMapper {
+	@Select("""
+					SELECT PARTITION_NAME AS name, PARTITION_DESCRIPTION AS description
+					FROM information_schema.PARTITIONS
+					WHERE TABLE_SCHEMA = DATABASE()
+					  AND TABLE_NAME = 'chat_message'
+					  AND PARTITION_NAME IS NOT NULL
+					ORDER BY PARTITION_ORDINAL_POSITION
+					""")
+	List<ChatPartition> selectPartitions();
+
+	// 비어 있는 p_future 를 나눠서 새 달 파티션 추가 (데이터 이동 없음)
+	@Update("""
+					ALTER TABLE chat_message REORGANIZE PARTITION p_future INTO (
+					    PARTITION ${name} VALUES LESS THAN ('${bound}'),
+					    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+					)
+					""")
+	void addPartition(@Param("name") String name, @Param("bound") String bound);
+
+	// 보관 파일은 방별 블록 → 방, id 순
+	@Select("SELECT * FROM chat_message PARTITION (${partition}) ORDER BY room_key, id")
+	@ResultType(ChatMessage.class)
+	@Options(fetchSize = 1000)
+	void exportPartition(@Param("partition") String partition, ResultHandler<ChatMessage> handler);
+
+	@Update("ALTER TABLE chat_message DROP PARTITION ${partition}")
+	void dropPartition(@Param("partition") String partition);
+}
@@ -0,0 +1,66 @@
+package com.backend.mapper.chat;
+
+import com.backend.domain.chat.ChatRoom;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+@Mapper
+public interface ChatRoomMapper {
+	@Insert("""
+					INSERT INTO chat_room (name, owner_id)
+					VALUES (#{name}, #{ownerId})
+					""")
+	@Options(useGeneratedKeys = true, keyProperty = "id")
+	void insertRoom(ChatRoom room);
+
+	@Select("SELECT id, name, owner_id, created_at FROM chat_room WHERE id = #{roomId}")
+	ChatRoom selectRoom(Integer roomId);
+
+	// 존재하는 회원만, 이미 멤버면 무시
+	@Insert("""
+					<script>
+					INSERT IGNORE INTO chat_room_member (room_id, member_id)
+					SELECT #{roomId}, m.id
+					FROM member m
+					WHERE m.id IN
+					<foreach collection="memberIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+					</script>
+					""")
+	int insertMembers(@Param("roomId") Integer roomId, @Param("memberIds") List<Integer> memberIds);
+
+	@Delete("DELETE FROM chat_room_member WHERE room_id = #{roomId} AND member_id = #{memberId}")
+	int deleteMember(@Param("roomId") Integer roomId, @Param("memberId") Integer memberId);
+
+	@Select("SELECT member_id FROM chat_room_member WHERE room_id = #{roomId}")
+	List<Integer> selectMemberIds(Integer roomId);
+
+	// 새 멤버의 대화 요약 행, 들어오기 전 메시지는 읽은 것으로 (안 읽은 수 0)
+	@Insert("""
+					<script>
+					INSERT IGNORE INTO chat_conversation
+					    (member_id, room_key, room_id, peer_id, peer_nickname, last_message, last_message_id,
+					     last_timestamp, unread_count, last_read_message_id)
+					SELECT crm.member_id, #{roomKey}, #{roomId}, NULL, #{roomName}, NULL, l.last_id, NOW(6), 0, l.last_id
+					FROM chat_room_member crm
+					         JOIN (SELECT COALESCE(MAX(id), 0) AS last_id
+					               FROM chat_message
+					               WHERE room_key = #{roomKey}) l
+					WHERE crm.room_id = #{roomId}
+					  AND crm.member_id IN
+					<foreach collection="memberIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+					</script>
+					""")
+	void insertConversations(@Param("roomId") Integer roomId,
+							 @Param("roomKey") String roomKey,
+							 @Param("roomName") String roomName,
+							 @Param("memberIds") List<Integer> memberIds);
+
+	@Delete("DELETE FROM chat_conversation WHERE member_id = #{memberId} AND room_key = #{roomKey}")
+	void deleteConversation(@Param("memberId") Integer memberId, @Param("roomKey") String roomKey);
+}
@@ -1,44 +1,138 @@
 package com.backend.mapper.chat;
 
+import com.backend.domain.chat.ChatConversation;
 import com.backend.domain.chat.ChatMessage;
+import com.backend.domain.chat.ChatRoomActivity;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface MessageMapper {
+	// write-behind 일괄 저장 (ChatMessageWriter)
 	@Insert("""
+					<script>
 					INSERT INTO chat_message
-					    (sender_id, recipient_id, content, sender_nick_name, recipient_nick_name)
-					VALUES (#{senderId}, #{recipientId}, #{content}, #{senderNickName}, #{recipientNickName})
+					    (sender_id, recipient_id, content, sender_nick_name, recipient_nick_name, timestamp, room_key, log_id, log_node)
+					VALUES
+					<foreach collection="messages" item="m" separator=",">
+					    (#{m.senderId}, #{m.recipientId}, #{m.content}, #{m.senderNickName}, #{m.recipientNickName}, #{m.timestamp}, #{m.roomKey}, #{m.logId},
+					     <if test="m.logId != null">#{logNode}</if><if test="m.logId == null">NULL</if>)
+					</foreach>
+					</script>
 					""")
-	void insertMessage(ChatMessage message);
+	void insertMessages(@Param("messages") List<ChatMessage> messages, @Param("logNode") String logNode);
 
+	// 같은 커넥션(트랜잭션)에서 insertMessages 직후 호출 → 배치의 첫 id
+	@Select("SELECT LAST_INSERT_ID()")
+	long selectLastInsertId();
+
+	@Select("SELECT @@auto_increment_increment")
+	int selectAutoIncrementIncrement();
+
+	// 재시작 시 로그 재생: 이 노드 로그에서 fromLogId 이후 이미 저장된 마지막 위치 (없으면 null)
+	@Select("SELECT MAX(log_id) FROM chat_message WHERE log_node = #{logNode} AND log_id >= #{fromLogId}")
+	Long selectMaxLogIdFrom(@Param("logNode") String logNode, @Param("fromLogId") long fromLogId);
+
+	// 대화 요약 갱신 (메시지 저장과 같은 트랜잭션), unreadCount 는 증가분
+	@Insert("""
+					<script>
+					INSERT INTO chat_conversation
+					    (member_id, room_key, peer_id, peer_nickname, last_message, last_message_id,
+					     last_timestamp, unread_count, last_read_message_id)
+					VALUES
+					<foreach collection="conversations" item="c" separator=",">
+					    (#{c.memberId}, #{c.roomKey}, #{c.peerId}, #{c.peerNickname}, #{c.lastMessage}, #{c.lastMessageId},
+					     #{c.lastTimestamp}, #{c.unreadCount}, #{c.lastReadMessageId})
+					</foreach>
+					ON DUPLICATE KEY UPDATE
+					    peer_nickname = VALUES(peer_nickname),
+					    last_message = VALUES(last_message),
+					    last_message_id = VALUES(last_message_id),
+					    last_timestamp = VALUES(last_timestamp),
+					    unread_count = unread_count + VALUES(unread_count),
+					    last_read_message_id = GREATEST(last_read_message_id, VALUES(last_read_message_id))
+					</script>
+					""")
+	void upsertConversations(@Param("conversations") List<ChatConversation> conversations);
+
+	// 그룹방 멤버 전원의 대화 요약을 한 번에 갱신 (방 하나당 UPDATE 한 번, 멤버 수만큼 INSERT 하지 않음)
+	@Update("""
+					<script>
+					UPDATE chat_conversation
+					SET last_message = #{a.lastMessage},
+					    last_message_id = #{a.lastMessageId},
+					    last_timestamp = #{a.lastTimestamp},
+					    unread_count = unread_count + #{a.messageCount}
+					        - CASE member_id
+					<foreach collection="a.senders" item="s">
+					              WHEN #{s.memberId} THEN #{s.count}
+					</foreach>
+					              ELSE 0 END,
+					    last_read_message_id = CASE member_id
+					<foreach collection="a.senders" item="s">
+					              WHEN #{s.memberId} THEN GREATEST(last_read_message_id, #{s.lastId})
+					</foreach>
+					              ELSE last_read_message_id END
+					WHERE room_key = #{a.roomKey}
+					</script>
+					""")
+	void updateRoomConversations(@Param("a") ChatRoomActivity activity);
+
+	// 대화 목록 최근 순 keyset 페이지 (member_id, last_timestamp, room_key) 인덱스
 	@Select("""
+					<script>
 					SELECT *
-					FROM chat_message
-					WHERE recipient_id = #{recipientId}
+					FROM chat_conversation
+					WHERE member_id = #{memberId}
+					<if test="beforeTime != null">
+					  AND (last_timestamp &lt; #{beforeTime}
+					       OR (last_timestamp = #{beforeTime} AND room_key &lt; #{beforeRoomKey}))
+					</if>
+					ORDER BY last_timestamp DESC, room_key DESC
+					LIMIT #{limit}
+					</script>
 					""")
-	List<ChatMessage> findMessagesByRecipient(Integer recipientId);
+	List<ChatConversation> selectInbox(@Param("memberId") Integer memberId,
+									   @Param("beforeTime") LocalDateTime beforeTime,
+									   @Param("beforeRoomKey") String beforeRoomKey,
+									   @Param("limit") int limit);
 
-	@Select("""
-        SELECT *
-        FROM chat_message
-        WHERE (sender_id = #{senderId} AND recipient_id = #{recipientId})
-        OR (sender_id = #{recipientId} AND recipient_id = #{senderId})
-        ORDER BY timestamp
-        """)
-	List<ChatMessage> findMessagesByRoomId(String roomId);
+	// messageId 까지 읽음 처리 (없으면 마지막 메시지까지), 남은 안 읽은 수 다시 계산 (1:1, 그룹 공통: 내가 보내지 않은 메시지)
+	@Update("""
+					UPDATE chat_conversation cc
+					SET cc.last_read_message_id = GREATEST(cc.last_read_message_id, COALESCE(#{messageId}, cc.last_message_id)),
+					    cc.unread_count = (SELECT COUNT(*)
+					                       FROM chat_message m
+					                       WHERE m.room_key = cc.room_key
+					                         AND m.sender_id <> cc.member_id
+					                         AND m.id > GREATEST(cc.last_read_message_id, COALESCE(#{messageId}, cc.last_message_id)))
+					WHERE cc.member_id = #{memberId}
+					  AND cc.room_key = #{roomKey}
+					""")
+	int markRead(@Param("memberId") Integer memberId,
+				 @Param("roomKey") String roomKey,
+				 @Param("messageId") Integer messageId);
 
+	// 최신순 keyset 페이지 (room_key, id) 인덱스 사용, before 보다 작은 id 만
 	@Select("""
+        <script>
         SELECT *
         FROM chat_message
-        WHERE (sender_id = #{senderId} AND recipient_id = #{recipientId})
-        OR (sender_id = #{recipientId} AND recipient_id = #{senderId})
-        ORDER BY timestamp
+        WHERE room_key = #{roomKey}
+        <if test="before != null">
+          AND id &lt; #{before}
+        </if>
+        ORDER BY id DESC
+        LIMIT #{limit}
+        </script>
         """)
-	List<ChatMessage> findMessagesByRoom(@Param("senderId") Integer senderId, @Param("recipientId") Integer recipientId);
+	List<ChatMessage> selectRoomPage(@Param("roomKey") String roomKey,
+									 @Param("before") Integer before,
+									 @Param("limit") int limit);
 }
@@ -12,8 +12,8 @@ public interface DiaryBoardMapper {
 
     //글 작성
     @Insert("""
-                INSERT INTO diary_board(diary_id, title, content, mood, inserted, inserted_date)
-                VALUES (#{diaryId}, #{title}, #{content}, #{mood}, #{inserted}, #{insertedDate})
+                INSERT INTO diary_board(diary_id, title, content, excerpt, mood, inserted, inserted_date)
+                VALUES (#{diaryId}, #{title}, #{content}, #{excerpt}, #{mood}, #{inserted}, #{insertedDate})
             """)
     @Options(useGeneratedKeys = true, keyProperty = "id")
     int insert(DiaryBoard diaryBoard);
@@ -51,6 +51,7 @@ public interface DiaryBoardMapper {
                 UPDATE diary_board
                 SET title = #{title},
                     content = #{content},
+                    excerpt = #{excerpt},
                     mood = #{mood}
                 WHERE id = #{id}
             """)
@@ -59,7 +60,7 @@ public interface DiaryBoardMapper {
     // 페이징 + 검색
     @Select("""
                 <script>
-                SELECT db.id,db.diary_id, db.title, db.mood, m.nickname writer, db.inserted, db.content
+                SELECT db.id,db.diary_id, db.title, db.mood, m.nickname writer, db.inserted, db.excerpt AS content
                 FROM diary_board db
                 JOIN diary d ON db.diary_id = d.id
                 JOIN member m ON d.member_id = m.id
@@ -207,7 +208,7 @@ public interface DiaryBoardMapper {
                     b.id AS id,
                     b.diary_id,
                     b.title,
-                    b.content,
+                    b.excerpt AS content,
                     b.inserted,
                     b.updated,
                     b.view_count,
@@ -2,6 +2,7 @@ package com.backend.mapper.diary;
 
 import com.backend.domain.diary.DiaryComment;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -135,14 +136,6 @@ public interface DiaryCommentMapper {
             """)
     List<DiaryComment> selectAllReplies(@Param("commentId") Integer commentId);
 
-    // 대댓글 개수
-    @Select("""
-                SELECT COUNT(*)
-                FROM diary_comment
-                WHERE reply_comment_id = #{commentId}
-            """)
-    int countReplies(@Param("commentId") Integer commentId);
-
     // ✅ [수정] 별칭(AS) 추가 (전체 조회)
     @Select("""
                 SELECT
@@ -162,6 +155,26 @@ public interface DiaryCommentMapper {
             """)
     List<DiaryComment> selectAllByDiaryId(@Param("diaryId") Integer diaryId);
 
+    // 전체 조회 (스트리밍용 Cursor)
+    @Select("""
+                SELECT
+                    c.comment_id AS id,
+                    c.diary_id AS diaryId,
+                    c.member_id AS memberId,
+                    c.comment,
+                    c.inserted,
+                    c.reply_comment_id AS replyCommentId,
+                    m.nickname,
+                    p.file_name AS profileImage
+                FROM diary_comment c
+                JOIN member m ON c.member_id = m.id
+                LEFT JOIN profile p ON m.id = p.member_id
+                WHERE c.diary_id = #{diaryId}
+                ORDER BY c.comment_id ASC
+            """)
+    @Options(fetchSize = 200)
+    Cursor<DiaryComment> cursorAllByDiaryId(@Param("diaryId") Integer diaryId);
+
     // 부모 댓글 개수 (검색)
     @Select("""
                 <script>
@@ -200,11 +213,18 @@ public interface DiaryCommentMapper {
                     c.member_id AS memberId,   -- ⚡️ AS memberId 추가
                     c.diary_id AS diaryId,     -- ⚡️ AS diaryId 추가
                     d.member_id AS ownerId,
-                    p.file_name AS profileImage
+                    p.file_name AS profileImage,
+                    COALESCE(rc.reply_count, 0) AS replyCount
                 FROM diary_comment c
                 JOIN member m ON c.member_id = m.id
                 JOIN diary d ON c.diary_id = d.id
                 LEFT JOIN profile p ON m.id = p.member_id
+                -- ✅ 대댓글 수를 댓글마다 따로 세지 않고 같은 다이어리 범위에서 한 번에 집계
+                LEFT JOIN (SELECT reply_comment_id, COUNT(*) AS reply_count
+                           FROM diary_comment
+                           WHERE diary_id = #{diaryId}
+                             AND reply_comment_id IS NOT NULL
+                           GROUP BY reply_comment_id) rc ON rc.reply_comment_id = c.comment_id
                 WHERE c.diary_id = #{diaryId}
                   AND c.reply_comment_id IS NULL
                 <if test="type == 'writer'">
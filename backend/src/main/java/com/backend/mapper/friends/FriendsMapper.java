@@ -1,8 +1,10 @@
 package com.backend.mapper.friends;
 
 import com.backend.domain.friends.FriendDto;
+import com.backend.domain.friends.FriendEdge;
 import com.backend.domain.member.Member;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -10,10 +12,9 @@ import java.util.List;
 public interface FriendsMapper {
 
 	@Select("""
-        SELECT m.id, m.nickname, COALESCE(lc.login_check, false) AS online
+        SELECT m.id, m.nickname
         FROM friends f
         JOIN member m ON f.friend_id = m.id
-        LEFT JOIN login_check lc ON m.nickname = lc.member_nickname
         WHERE f.member_id = #{memberId}
     """)
 	List<FriendDto> selectFriendsById(@Param("memberId") Integer memberId);
@@ -38,6 +39,28 @@ public interface FriendsMapper {
     """)
 	int checkFriendship(@Param("memberId") Integer memberId, @Param("friendId") Integer friendId);
 
+	// friendIds 중 memberId 가 친구로 등록한 id 만 반환 (일괄 확인, 그래프 적재 전용 fallback)
+	@Select("""
+        <script>
+        SELECT friend_id
+        FROM friends
+        WHERE member_id = #{memberId}
+          AND friend_id IN
+        <foreach collection="friendIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+	List<Integer> selectFriendIdsIn(@Param("memberId") Integer memberId, @Param("friendIds") List<Integer> friendIds);
+
+	// 친구 그래프 전체 적재용 (정렬된 순서로 스트리밍)
+	@Select("""
+        SELECT member_id, friend_id
+        FROM friends
+        ORDER BY member_id, friend_id
+    """)
+	@ResultType(FriendEdge.class)
+	@Options(fetchSize = 1000)
+	void scanEdges(ResultHandler<FriendEdge> handler);
+
 	@Select("""
         SELECT id, nickname
         FROM member
@@ -45,6 +68,16 @@ public interface FriendsMapper {
     """)
 	Member selectMemberById(@Param("id") Integer id);
 
+	@Select("""
+        <script>
+        SELECT id, nickname
+        FROM member
+        WHERE id IN
+        <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+	List<Member> selectMembersByIds(@Param("ids") List<Integer> ids);
+
 	@Delete("""
         DELETE FROM friends
         WHERE member_id = #{memberId} AND friend_id = #{friendId}
@@ -0,0 +1,78 @@
+package com.backend.mapper.member;
+
+import com.backend.domain.member.EmailOutbox;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.List;
+
+@Mapper
+public interface EmailOutboxMapper {
+    @Insert("""
+            INSERT INTO email_outbox (recipient, subject, body, username, password_hash)
+            VALUES (#{recipient}, #{subject}, #{body}, #{username}, #{passwordHash})
+            """)
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    void insert(EmailOutbox outbox);
+
+    // 같은 회원의 아직 안 보낸 임시 비밀번호 메일은 새 요청으로 대체
+    @Update("""
+            UPDATE email_outbox
+            SET status = 'SUPERSEDED', body = NULL, password_hash = NULL
+            WHERE username = #{username}
+              AND status = 'PENDING'
+            """)
+    int supersedePending(String username);
+
+    // 여러 서버가 같이 돌아도 한 행은 한 곳에서만 보내도록 claim 토큰으로 가져감
+    @Update("""
+            UPDATE email_outbox
+            SET status = 'SENDING', claim_token = #{token}, claimed_at = NOW()
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= NOW()
+            ORDER BY id
+            LIMIT #{limit}
+            """)
+    int claim(@Param("token") String token, @Param("limit") int limit);
+
+    @Select("SELECT * FROM email_outbox WHERE claim_token = #{token} AND status = 'SENDING' ORDER BY id")
+    List<EmailOutbox> selectClaimed(String token);
+
+    // 보내다 죽은 행 (claim 후 timeout 지남) 다시 대기로
+    @Update("""
+            UPDATE email_outbox
+            SET status = 'PENDING', claim_token = NULL
+            WHERE status = 'SENDING'
+              AND claimed_at < NOW() - INTERVAL #{timeoutSeconds} SECOND
+            """)
+    int releaseStale(int timeoutSeconds);
+
+    // 보낸 뒤에는 본문(임시 비밀번호)과 해시를 지움
+    @Update("""
+            UPDATE email_outbox
+            SET status = 'SENT', sent_at = NOW(), body = NULL, password_hash = NULL,
+                attempts = attempts + 1, last_error = NULL
+            WHERE id = #{id}
+            """)
+    void markSent(Long id);
+
+    @Update("""
+            UPDATE email_outbox
+            SET status = IF(attempts + 1 >= #{maxAttempts}, 'FAILED', 'PENDING'),
+                body = IF(attempts + 1 >= #{maxAttempts}, NULL, body),
+                password_hash = IF(attempts + 1 >= #{maxAttempts}, NULL, password_hash),
+                attempts = attempts + 1,
+                next_attempt_at = NOW() + INTERVAL #{delaySeconds} SECOND,
+                last_error = #{error},
+                claim_token = NULL
+            WHERE id = #{id}
+            """)
+    void markFailed(@Param("id") Long id,
+                    @Param("error") String error,
+                    @Param("delaySeconds") long delaySeconds,
+                    @Param("maxAttempts") int maxAttempts);
+}
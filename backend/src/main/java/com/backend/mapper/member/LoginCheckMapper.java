@@ -3,6 +3,8 @@ package com.backend.mapper.member;
 import com.backend.domain.member.LoginEntity;
 import org.apache.ibatis.annotations.*;
 
+import java.util.List;
+
 @Mapper
 public interface LoginCheckMapper {
 
@@ -28,4 +30,29 @@ public interface LoginCheckMapper {
             WHERE member_nickname = #{memberNickname}
             			""")
     void updatedLoginCheck(String memberNickname);
+
+    // 재시작 시 접속 상태 초기값
+    @Select("""
+            SELECT member_id
+            FROM login_check
+            WHERE login_check = true
+              AND member_id IS NOT NULL
+            """)
+    List<Integer> selectOnlineMemberIds();
+
+    // 접속 상태 변경분 일괄 저장 (PresenceService)
+    @Insert("""
+            <script>
+            INSERT INTO login_check (member_id, member_nickname, login_check, login_logout_time)
+            SELECT m.id, m.nickname, #{online}, CURRENT_TIMESTAMP
+            FROM member m
+            WHERE m.id IN
+            <foreach collection="memberIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            ON DUPLICATE KEY UPDATE
+                member_id = VALUES(member_id),
+                login_check = VALUES(login_check),
+                login_logout_time = CURRENT_TIMESTAMP
+            </script>
+            """)
+    void upsertPresence(@Param("memberIds") List<Integer> memberIds, @Param("online") boolean online);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.backend.mapper.member;
 
 import com.backend.domain.member.Member;
+import com.backend.domain.member.MemberIdentity;
 import org.apache.ibatis.annotations.*;
 
 import java.util.List;
@@ -31,6 +32,16 @@ public interface MemberMapper {
             """)
     Member selectByNickname(String nickname);
 
+    // MemberCache 로딩용 (비밀번호 제외)
+    @Select("SELECT id, username, nickname, role FROM member WHERE id = #{id}")
+    MemberIdentity selectIdentityById(Integer id);
+
+    @Select("SELECT id, username, nickname, role FROM member WHERE username = #{username}")
+    MemberIdentity selectIdentityByUsername(String username);
+
+    @Select("SELECT id, username, nickname, role FROM member WHERE nickname = #{nickname}")
+    MemberIdentity selectIdentityByNickname(String nickname);
+
     // 회원 목록
     @Select("""
             SELECT id, name, username, nickname, password, gender, nationality, birth_date, phone_number, postcode, main_address, detailed_address, inserted_at AS inserted, role
@@ -1,5 +1,6 @@
 package com.backend.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +29,15 @@ public class JWTUtil {
     }
 
     // ====== 토큰 Claim Getter ======
+    // 한 번만 파싱해서 여러 claim 을 읽을 때 (만료/서명 오류면 JwtException)
+    public Claims parseClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
     public String getCategory(String token) {
         return Jwts.parser()
                 .verifyWith(secretKey)
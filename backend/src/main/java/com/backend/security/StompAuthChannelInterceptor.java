@@ -0,0 +1,126 @@
+package com.backend.security;
+
+import com.backend.domain.member.Member;
+import com.backend.domain.member.MemberIdentity;
+import com.backend.domain.member.Role;
+import com.backend.service.chat.ChatRoomMembers;
+import com.backend.service.chat.ChatRoomService;
+import com.backend.service.member.MemberCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * STOMP 인증.
+ * - CONNECT 프레임의 Authorization: Bearer 토큰을 한 번만 검증하고 세션 사용자(principal)로 저장
+ * - 닉네임은 CONNECT 때 한 번 조회해서 principal 에 보관 → 이후 메시지마다 토큰 파싱/회원 조회 없음
+ * - 인증되지 않은 세션의 SEND, /app/** 이 아닌 곳(/topic 등)으로의 SEND 는 거절
+ * - 대화방 구독은 그 방 사람만 (1:1 은 방 키에 내 id, 그룹방은 멤버 캐시로 확인)
+ * - /queue/** 직접 구독은 거절 (/user/queue/** 만)
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JWTUtil jwtUtil;
+    private final MemberCache memberCache;
+    private final ChatRoomMembers roomMembers;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            if (accessor.getUser() == null) {
+                throw new BadCredentialsException("unauthenticated STOMP session");
+            }
+            // 클라이언트는 /app/** 로만 보냄 (/topic 으로 바로 보내면 ChatController 의 보낸 사람/방 확인을 건너뜀)
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith("/app/")) {
+                throw new AccessDeniedException("SEND not allowed to " + destination);
+            }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkSubscription(accessor);
+        }
+        return message;
+    }
+
+    private void checkSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        // 개인 큐는 /user/queue/** 로만 (세션별 실제 큐 이름으로 직접 구독하면 남의 알림을 볼 수 있음)
+        if (destination != null && destination.startsWith("/queue/")) {
+            throw new AccessDeniedException("SUBSCRIBE not allowed to " + destination);
+        }
+        if (destination == null || !destination.startsWith("/topic/chatroom/")) {
+            return;
+        }
+        if (!(accessor.getUser() instanceof UsernamePasswordAuthenticationToken auth)
+                || !(auth.getPrincipal() instanceof CustomUserDetails user)) {
+            throw new BadCredentialsException("unauthenticated STOMP session");
+        }
+        String roomKey = destination.substring("/topic/chatroom/".length());
+        Integer groupId = ChatRoomService.groupId(roomKey);
+        boolean allowed = groupId != null
+                ? roomMembers.isMember(groupId, user.getId())
+                : Arrays.asList(roomKey.split("-")).contains(String.valueOf(user.getId()));
+        if (!allowed) {
+            throw new AccessDeniedException("not a member of " + roomKey);
+        }
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new BadCredentialsException("missing access token");
+        }
+        Claims claims;
+        try {
+            // 만료/서명 오류는 여기서 예외
+            claims = jwtUtil.parseClaims(authorization.substring(7).trim());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("invalid access token");
+        }
+        if (!"access".equals(claims.get("category", String.class))) {
+            throw new BadCredentialsException("invalid access token");
+        }
+
+        Integer userId = claims.get("userId", Integer.class);
+        MemberIdentity stored = memberCache.byId(userId);
+        if (stored == null) {
+            throw new BadCredentialsException("unknown member");
+        }
+
+        Member member = new Member();
+        member.setId(stored.getId());
+        member.setUsername(claims.get("username", String.class));
+        member.setNickname(stored.getNickname());
+        member.setRole(role(claims.get("role", String.class)));
+
+        CustomUserDetails user = new CustomUserDetails(member);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    // JWTFilter 와 같은 규칙: "ROLE_USER" → Role.USER, 알 수 없으면 USER
+    private Role role(String role) {
+        try {
+            return Role.valueOf(role.startsWith("ROLE_") ? role.substring(5) : role);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Role.USER;
+        }
+    }
+}
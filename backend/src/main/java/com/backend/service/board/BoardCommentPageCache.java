@@ -0,0 +1,66 @@
+package com.backend.service.board;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 댓글 페이지 캐시.
+ * - 게시글(boardId) 단위로 LRU 관리, 쓰기(add/update/remove) 시 해당 게시글 전체 무효화
+ * - 무효화와 동시에 진행 중이던 조회 결과는 캐시에 넣지 않음 (stale 방지용 stamp)
+ */
+@Component
+public class BoardCommentPageCache {
+
+    private final Map<Integer, Map<String, Object>> boards;
+    private final AtomicLong stamp = new AtomicLong();
+
+    public BoardCommentPageCache(@Value("${board.comment.cache.max-boards:1000}") int maxBoards) {
+        this.boards = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Map<String, Object>> eldest) {
+                return size() > maxBoards;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Integer boardId, String pageKey, Supplier<T> loader) {
+        Map<String, Object> pages = boards.get(boardId);
+        if (pages != null) {
+            Object cached = pages.get(pageKey);
+            if (cached != null) {
+                return (T) cached;
+            }
+        }
+
+        long before = stamp.get();
+        T loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        // stamp 확인과 저장을 evict 의 remove 와 같은 락 안에서 (MemberCache.load 와 같은 방식)
+        synchronized (boards) {
+            if (stamp.get() == before) {
+                boards.computeIfAbsent(boardId, id -> new ConcurrentHashMap<>()).put(pageKey, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Integer boardId) {
+        stamp.incrementAndGet();
+        boards.remove(boardId);
+    }
+
+    public void evictAll() {
+        stamp.incrementAndGet();
+        boards.clear();
+    }
+}
@@ -1,10 +1,16 @@
 package com.backend.service.board;
 
 import com.backend.domain.board.BoardComment;
+import com.backend.domain.board.BoardCommentEvent;
+import com.backend.domain.board.BoardCommentPage;
 import com.backend.mapper.board.BoardCommentMapper;
+import com.backend.service.common.EntityVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -14,7 +20,13 @@ import java.util.List;
 @Transactional(rollbackFor = Exception.class)
 public class BoardCommentServivce {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     final BoardCommentMapper mapper;
+    private final BoardCommentPageCache pageCache;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final EntityVersionService versionService;
 
     public boolean validate(BoardComment comment) {
         if (comment == null) {
@@ -33,18 +45,67 @@ public class BoardCommentServivce {
 
     public void add(BoardComment comment) {
         mapper.insert(comment);
+        BoardComment saved = mapper.selectById(comment.getId());
+        afterCommit(comment.getBoardId(), BoardCommentEvent.added(saved));
+        // 게시글 목록의 댓글 수가 바뀜
+        versionService.touch(EntityVersionService.BOARD_LIST);
     }
 
+    @Transactional(readOnly = true)
     public List<BoardComment> list(Integer boardId) {
-        return mapper.selectAllByBoardId(boardId);
+        return pageCache.get(boardId, "all", () -> mapper.selectAllByBoardId(boardId));
+    }
+
+    // ✅ 커서 기반 페이징 (order: desc=최신순, asc=오래된순)
+    @Transactional(readOnly = true)
+    public BoardCommentPage page(Integer boardId, Integer cursor, Integer size, String order) {
+        boolean newestFirst = !"asc".equalsIgnoreCase(order);
+        int limit = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        String pageKey = (newestFirst ? "desc" : "asc") + ":" + cursor + ":" + limit;
+
+        return pageCache.get(boardId, pageKey, () -> {
+            // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+            List<BoardComment> rows = mapper.selectPageByBoardId(boardId, cursor, newestFirst, limit + 1);
+            boolean hasNext = rows.size() > limit;
+            List<BoardComment> comments = hasNext ? List.copyOf(rows.subList(0, limit)) : rows;
+            Integer nextCursor = hasNext ? comments.get(comments.size() - 1).getId() : null;
+            return new BoardCommentPage(comments, nextCursor, hasNext);
+        });
     }
 
     public void remove(BoardComment comment) {
+        Integer boardId = mapper.selectBoardIdById(comment.getId());
         mapper.deleteById(comment.getId());
+        if (boardId != null) {
+            afterCommit(boardId, BoardCommentEvent.removed(comment.getId()));
+            versionService.touch(EntityVersionService.BOARD_LIST);
+        }
     }
 
     public void update(BoardComment boardComment) {
         System.out.println("서비스의 boardComment = " + boardComment);
         mapper.update(boardComment);
+        BoardComment saved = mapper.selectById(boardComment.getId());
+        if (saved != null) {
+            afterCommit(saved.getBoardId(), BoardCommentEvent.updated(saved));
+        }
+    }
+
+    // 커밋 이후에 캐시 무효화 + 구독자에게 변경 전송 (롤백 시 아무것도 하지 않음)
+    private void afterCommit(Integer boardId, BoardCommentEvent event) {
+        Runnable action = () -> {
+            pageCache.evict(boardId);
+            messagingTemplate.convertAndSend("/topic/board/" + boardId + "/comments", event);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
@@ -2,9 +2,15 @@ package com.backend.service.board;
 
 import com.backend.domain.board.Board;
 import com.backend.domain.board.BoardFile;
+import com.backend.domain.board.BoardImageCard;
+import com.backend.domain.board.BoardPage;
 import com.backend.domain.board.BoardReport;
+import com.backend.domain.board.GuideBoardCard;
+import com.backend.domain.common.PageInfo;
 import com.backend.mapper.board.BoardCommentMapper;
 import com.backend.mapper.board.BoardMapper;
+import com.backend.service.common.EntityVersionService;
+import com.backend.service.common.ExcerptGenerator;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +33,9 @@ public class BoardService {
 
     private final BoardMapper mapper;
     private final BoardCommentMapper boardCommentMapper;
+    private final BoardCommentPageCache commentPageCache;
+    private final EntityVersionService versionService;
+    private final ExcerptGenerator excerptGenerator;
 
     private static String PAGE_INFO_SESSION_KEY = "pageInfo";
 
@@ -39,7 +48,9 @@ public class BoardService {
     private String srcPrefix;
 
     public void add(Board board, MultipartFile[] files) throws IOException {
+        board.setExcerpt(excerptGenerator.of(board.getContent()));
         mapper.insert(board);
+        versionService.touch(EntityVersionService.BOARD_LIST);
 
         if (files != null && files.length > 0) {
             // 1. 게시판별 폴더 생성 (예: uploads/board/1/)
@@ -64,8 +75,8 @@ public class BoardService {
                 board.getContent() != null && !board.getContent().isBlank();
     }
 
-    public Map<String, Object> list(Integer page, Integer pageAmount, Boolean offsetReset, HttpSession session, String boardType,
-                                    String searchType, String keyword) {
+    public BoardPage list(Integer page, Integer pageAmount, Boolean offsetReset, HttpSession session, String boardType,
+                          String searchType, String keyword) {
         if (page <= 0) {
             throw new IllegalArgumentException("page must be greater than 0");
         }
@@ -90,14 +101,11 @@ public class BoardService {
 
         session.setAttribute(PAGE_INFO_SESSION_KEY, offset);
 
-        Map<String, Object> pageInfo = new HashMap<>();
         if (offsetReset) {
             offset = 0;
             page = 1;
-            pageInfo.put("currentPageNumber", 1);
         } else {
             offset = (page - 1) * pageAmount;
-            pageInfo.put("currentPageNumber", page);
         }
 
         Integer countByBoardType;
@@ -107,23 +115,7 @@ public class BoardService {
             countByBoardType = mapper.selectByBoardType(boardType, searchType, keyword);
         }
 
-        Integer lastPageNumber = (countByBoardType - 1) / pageAmount + 1;
-        Integer leftPageNumber = (page - 1) / 10 * 10 + 1;
-        Integer rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
-        Integer prevPageNumber = (leftPageNumber > 1) ? leftPageNumber - 1 : null;
-        Integer nextPageNumber = (rightPageNumber < lastPageNumber) ? rightPageNumber + 1 : null;
-
-        if (prevPageNumber != null) {
-            pageInfo.put("prevPageNumber", prevPageNumber);
-        }
-        if (nextPageNumber != null) {
-            pageInfo.put("nextPageNumber", nextPageNumber);
-        }
-
-        pageInfo.put("lastPageNumber", lastPageNumber);
-        pageInfo.put("leftPageNumber", leftPageNumber);
-        pageInfo.put("rightPageNumber", rightPageNumber);
-        pageInfo.put("offset", offset);
+        PageInfo pageInfo = pageInfo(page, pageAmount, countByBoardType, offset);
 
         List<Board> boardList = mapper.selectAllPaging(offset, pageAmount, boardType, searchType, keyword);
 
@@ -137,12 +129,26 @@ public class BoardService {
             }
         }
 
-        return Map.of("pageInfo", pageInfo, "boardList", boardList);
+        return new BoardPage(pageInfo, boardList);
+    }
+
+    private PageInfo pageInfo(int page, int pageAmount, int count, int offset) {
+        int lastPageNumber = (count - 1) / pageAmount + 1;
+        int leftPageNumber = (page - 1) / 10 * 10 + 1;
+        int rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
+        Integer prevPageNumber = (leftPageNumber > 1) ? leftPageNumber - 1 : null;
+        Integer nextPageNumber = (rightPageNumber < lastPageNumber) ? rightPageNumber + 1 : null;
+
+        return new PageInfo(page, prevPageNumber, nextPageNumber,
+                lastPageNumber, leftPageNumber, rightPageNumber, offset);
     }
 
     public Map<String, Object> getByBoardIdAndMemberId(Integer id, Integer memberId) {
         int views = mapper.selectCountById(id);
         mapper.incrementViewsById(id, views);
+        // 조회수도 응답에 포함 → 상세 ETag 는 바로, 목록 ETag 는 coarse-interval 마다 (커밋 이후 반영)
+        versionService.touch(EntityVersionService.board(id));
+        versionService.touchCoarse(EntityVersionService.BOARD_VIEWS);
 
         Map<String, Object> result = new HashMap<>();
         Board board = mapper.selectById(id);
@@ -189,7 +195,9 @@ public class BoardService {
         mapper.deleteFileByBoardId(id);
         mapper.deleteLikeByBoardId(id);
         boardCommentMapper.deleteByBoardId(id);
+        commentPageCache.evict(id);
         mapper.deleteById(id);
+        versionService.touch(EntityVersionService.board(id), EntityVersionService.BOARD_LIST);
     }
 
     public void edit(Board board, List<String> removeFileList, MultipartFile[] addFileList) throws IOException {
@@ -224,7 +232,9 @@ public class BoardService {
                 file.transferTo(dest);
             }
         }
+        board.setExcerpt(excerptGenerator.of(board.getContent()));
         mapper.update(board);
+        versionService.touch(EntityVersionService.board(board.getId()), EntityVersionService.BOARD_LIST);
     }
 
     public boolean hasAccess(Integer id, Integer memberId) {
@@ -256,6 +266,7 @@ public class BoardService {
             result.put("like", true);
         }
         result.put("count", mapper.selectCountLikeByBoardId(boardId));
+        versionService.touch(EntityVersionService.board(boardId), EntityVersionService.BOARD_LIST);
 
         return result;
     }
@@ -282,7 +293,7 @@ public class BoardService {
         }
     }
 
-    public Map<String, Object> reportList(Integer page, Integer pageAmount, Boolean offsetReset, HttpSession session, String boardType, String searchType, String keyword) {
+    public BoardPage reportList(Integer page, Integer pageAmount, Boolean offsetReset, HttpSession session, String boardType, String searchType, String keyword) {
         if (page <= 0) {
             throw new IllegalArgumentException("page must be greater than 0");
         }
@@ -307,14 +318,11 @@ public class BoardService {
 
         session.setAttribute(PAGE_INFO_SESSION_KEY, offset);
 
-        Map<String, Object> pageInfo = new HashMap<>();
         if (offsetReset) {
             offset = 0;
             page = 1;
-            pageInfo.put("currentPageNumber", 1);
         } else {
             offset = (page - 1) * pageAmount;
-            pageInfo.put("currentPageNumber", page);
         }
 
         Integer countByBoardType;
@@ -324,25 +332,9 @@ public class BoardService {
             countByBoardType = mapper.selectByBoardTypeWithReportBoard(boardType, searchType, keyword);
         }
 
-        Integer lastPageNumber = (countByBoardType - 1) / pageAmount + 1;
-        Integer leftPageNumber = (page - 1) / 10 * 10 + 1;
-        Integer rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
-        Integer prevPageNumber = (leftPageNumber > 1) ? leftPageNumber - 1 : null;
-        Integer nextPageNumber = (rightPageNumber < lastPageNumber) ? rightPageNumber + 1 : null;
-
-        if (prevPageNumber != null) {
-            pageInfo.put("prevPageNumber", prevPageNumber);
-        }
-        if (nextPageNumber != null) {
-            pageInfo.put("nextPageNumber", nextPageNumber);
-        }
-
-        pageInfo.put("lastPageNumber", lastPageNumber);
-        pageInfo.put("leftPageNumber", leftPageNumber);
-        pageInfo.put("rightPageNumber", rightPageNumber);
-        pageInfo.put("offset", offset);
+        PageInfo pageInfo = pageInfo(page, pageAmount, countByBoardType, offset);
 
-        return Map.of("pageInfo", pageInfo, "boardList", mapper.selectAllPagingWithReportBoard(offset, pageAmount, boardType, searchType, keyword));
+        return new BoardPage(pageInfo, mapper.selectAllPagingWithReportBoard(offset, pageAmount, boardType, searchType, keyword));
     }
 
     public Map<String, Object> reportContent(Integer boardId) {
@@ -363,27 +355,17 @@ public class BoardService {
         return mapper.selectPopularBoards();
     }
 
-    public List<Map<String, Object>> getTopLikedImages() {
-        List<Map<String, Object>> topLikedImages = mapper.selectTopLikedImages();
-        return topLikedImages.stream()
-                .peek(image -> {
-                    String imageUrl = (String) image.get("imageUrl");
-                    Integer id = (Integer) image.get("id");
-                    // ✅ [수정] 로컬 이미지 URL 생성
-                    image.put("imageUrl", srcPrefix + "board/" + id + "/" + imageUrl);
-                })
+    public List<BoardImageCard> getTopLikedImages() {
+        return mapper.selectTopLikedImages().stream()
+                // ✅ [수정] 로컬 이미지 URL 생성
+                .map(card -> card.withImageUrl(srcPrefix + "board/" + card.id() + "/" + card.imageUrl()))
                 .collect(Collectors.toList());
     }
 
-    public List<Map<String, Object>> getGuideBoards() {
-        List<Map<String, Object>> GuideBoards = mapper.selectGuideBoards();
-        return GuideBoards.stream()
-                .peek(image -> {
-                    String imageUrl = (String) image.get("imageUrl");
-                    Integer id = (Integer) image.get("id");
-                    // ✅ [수정] 로컬 이미지 URL 생성
-                    image.put("imageUrl", srcPrefix + "board/" + id + "/" + imageUrl);
-                })
+    public List<GuideBoardCard> getGuideBoards() {
+        return mapper.selectGuideBoards().stream()
+                // ✅ [수정] 로컬 이미지 URL 생성
+                .map(card -> card.withImageUrl(srcPrefix + "board/" + card.id() + "/" + card.imageUrl()))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
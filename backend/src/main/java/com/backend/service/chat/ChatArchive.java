@@ -0,0 +1,262 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.backend.mapper.chat.ChatPartitionMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 chat_message 파티션 보관 파일.
+ * - 파티션 하나 = chat_message-{파티션}.ndjson.gz + .index.json (방별 건수, 최소/최대 id, 파일 내 위치/길이)
+ * - 데이터 파일은 방마다 따로 압축한 gzip 블록을 이어 붙인 것 (블록 안은 한 줄에 메시지 하나, id 순)
+ * - 색인은 메모리에 올려 두고, 방 기록 조회는 그 방이 있는 파일의 그 방 블록만 최신 파일부터 읽음
+ *   (위치가 없는 예전 색인은 파일 전체를 읽음)
+ * - DB 에서 다 읽은 오래된 커서는 MessageService 가 여기로 이어서 조회
+ * - 클러스터에서는 디렉터리를 모든 노드가 공유, 내보내지 않은 노드는 reload() 로 색인을 다시 읽음 (ChatPartitionManager)
+ */
+@Slf4j
+@Component
+public class ChatArchive {
+
+    private static final String DATA_SUFFIX = ".ndjson.gz";
+    private static final String INDEX_SUFFIX = ".index.json";
+
+    private final ChatPartitionMapper partitionMapper;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    // 상한이 최근인 순, 바꿀 때는 새 목록으로 교체
+    private volatile List<Index> indexes = List.of();
+
+    public ChatArchive(ChatPartitionMapper partitionMapper,
+                       ObjectMapper objectMapper,
+                       @Value("${chat.archive.dir:chat-archive}") String directory) {
+        this.partitionMapper = partitionMapper;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+    }
+
+    // 방별 [건수, 최소 id, 최대 id, 블록 위치, 블록 길이]
+    public record Index(String partition, LocalDate upperBound, Map<String, long[]> rooms) {
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(directory);
+        reload();
+        log.info("chat archive: {} partitions", indexes.size());
+    }
+
+    // 디렉터리의 색인 파일을 다시 읽음 (다른 노드가 내보낸 파티션 반영)
+    public synchronized void reload() throws IOException {
+        List<Index> loaded = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(INDEX_SUFFIX)).toList()) {
+                loaded.add(objectMapper.readValue(file.toFile(), Index.class));
+            }
+        }
+        loaded.sort(Comparator.comparing(Index::upperBound).reversed());
+        indexes = List.copyOf(loaded);
+    }
+
+    // 파티션 전체를 파일로 저장 (임시 파일에 쓰고 다 쓰면 이름 변경), 끝나야 파티션 삭제 가능
+    public synchronized void export(String partition, LocalDate upperBound) throws IOException {
+        Path data = directory.resolve("chat_message-" + partition + DATA_SUFFIX);
+        Path index = directory.resolve("chat_message-" + partition + INDEX_SUFFIX);
+        Path tmp = directory.resolve(data.getFileName() + ".tmp");
+
+        Map<String, long[]> rooms = new HashMap<>();
+        try (CountingOutputStream file = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            RoomBlockWriter writer = new RoomBlockWriter(file, rooms);
+            partitionMapper.exportPartition(partition, writer);
+            writer.finish();
+        }
+        Files.move(tmp, data, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Index written = new Index(partition, upperBound, rooms);
+        Path indexTmp = directory.resolve(index.getFileName() + ".tmp");
+        objectMapper.writeValue(indexTmp.toFile(), written);
+        Files.move(indexTmp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        List<Index> updated = new ArrayList<>(indexes);
+        updated.removeIf(i -> i.partition().equals(partition));
+        updated.add(written);
+        updated.sort(Comparator.comparing(Index::upperBound).reversed());
+        indexes = List.copyOf(updated);
+        log.info("chat archive: exported {} ({} rooms)", partition, rooms.size());
+    }
+
+    public boolean contains(String roomKey) {
+        for (Index index : indexes) {
+            if (index.rooms().containsKey(roomKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // before 보다 작은 id 중 최근 limit 개 (id 내림차순, selectRoomPage 와 같은 순서)
+    public List<ChatMessage> page(String roomKey, Integer before, int limit) {
+        List<ChatMessage> result = new ArrayList<>();
+        for (Index index : indexes) {
+            long[] room = index.rooms().get(roomKey);
+            if (room == null || (before != null && room[1] >= before)) {
+                continue;
+            }
+            Deque<ChatMessage> newest = scan(index.partition(), room, roomKey, before, limit - result.size());
+            while (!newest.isEmpty()) {
+                result.add(newest.pollLast());
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 블록(또는 예전 형식은 파일 전체)은 id 오름차순 → 조건에 맞는 마지막 limit 개만 유지
+    private Deque<ChatMessage> scan(String partition, long[] room, String roomKey, Integer before, int limit) {
+        Deque<ChatMessage> newest = new ArrayDeque<>(limit);
+        Path data = directory.resolve("chat_message-" + partition + DATA_SUFFIX);
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(open(data, room)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                ChatMessage message = objectMapper.readValue(line, ChatMessage.class);
+                if (!roomKey.equals(message.getRoomKey())) {
+                    continue;
+                }
+                if (before != null && message.getId() >= before) {
+                    break;
+                }
+                if (newest.size() == limit) {
+                    newest.pollFirst();
+                }
+                newest.addLast(message);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return newest;
+    }
+
+    // 방 블록만 읽음, 위치가 없으면(예전 색인) 파일 전체
+    private static InputStream open(Path data, long[] room) throws IOException {
+        if (room.length < 5) {
+            return Files.newInputStream(data);
+        }
+        ByteBuffer block = ByteBuffer.allocate(Math.toIntExact(room[4]));
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.READ)) {
+            while (block.hasRemaining()) {
+                if (channel.read(block, room[3] + block.position()) < 0) {
+                    throw new EOFException("chat archive block truncated: " + data);
+                }
+            }
+        }
+        return new ByteArrayInputStream(block.array());
+    }
+
+    // 방이 바뀔 때마다 gzip 블록을 새로 시작 (export 쿼리가 room_key, id 순)
+    private class RoomBlockWriter implements ResultHandler<ChatMessage> {
+
+        private final CountingOutputStream file;
+        private final Map<String, long[]> rooms;
+        private GZIPOutputStream gzip;
+        private long[] room;
+        private String roomKey;
+
+        RoomBlockWriter(CountingOutputStream file, Map<String, long[]> rooms) {
+            this.file = file;
+            this.rooms = rooms;
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends ChatMessage> context) {
+            ChatMessage message = context.getResultObject();
+            try {
+                if (roomKey == null || !roomKey.equals(message.getRoomKey())) {
+                    finish();
+                    roomKey = message.getRoomKey();
+                    room = new long[]{0, Long.MAX_VALUE, Long.MIN_VALUE, file.count(), 0};
+                    rooms.put(roomKey, room);
+                    gzip = new GZIPOutputStream(file);
+                }
+                gzip.write(objectMapper.writeValueAsBytes(message));
+                gzip.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            room[0]++;
+            room[1] = Math.min(room[1], message.getId());
+            room[2] = Math.max(room[2], message.getId());
+        }
+
+        // 현재 블록을 닫고 길이 기록 (파일은 닫지 않음)
+        void finish() throws IOException {
+            if (gzip == null) {
+                return;
+            }
+            gzip.finish();
+            room[4] = file.count() - room[3];
+            gzip = null;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.backend.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 채팅 메시지 로컬 추가 전용 로그 (ChatMessageWriter 앞단).
+ * - 세그먼트 파일 {segmentId}.log 에 [길이][CRC32][본문] 순서로 추가, 세그먼트가 segmentBytes 를 넘으면 새 파일
+ * - 레코드 id = (segmentId << 32) | 파일 내 위치 → 추가 순서대로 증가 (chat_message.log_id 에 같이 저장)
+ * - DB 에 저장된 위치까지 checkpoint → 다 저장된 (닫힌) 세그먼트는 삭제
+ * - 재시작 시 남은 세그먼트를 읽어서 돌려줌, 끝부분이 깨진 레코드(쓰다 죽은 것)에서 멈춤
+ * - append 는 쓰기만, 디스크 반영은 sync(id) (group commit: 동시에 기다리는 append 들이 force 한 번을 같이 씀)
+ * - append 는 ChatMessageWriter 의 appendLock 안에서만 (큐 순서 = 로그 순서), sync 는 락 밖에서
+ */
+@Slf4j
+class ChatMessageLog {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+
+    // 닫힌 세그먼트 (오래된 순): 마지막 레코드 id 까지 DB 에 저장되면 삭제
+    private final Deque<Segment> closed = new ArrayDeque<>();
+    private Segment active;
+    private FileChannel channel;
+    // 마지막으로 쓴 레코드 id (append 안에서만 씀) / 디스크에 내려간 마지막 레코드 id
+    private volatile long writtenId = -1;
+    private final AtomicLong syncedId = new AtomicLong(-1);
+    private final Object syncLock = new Object();
+    private final AtomicLong syncs = new AtomicLong();
+
+    ChatMessageLog(Path directory, long segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    record Entry(long id, byte[] payload) {
+    }
+
+    // 남아 있는 레코드 전부 (추가 순서), 이후 새 세그먼트에 추가 시작
+    synchronized List<Entry> open() throws IOException {
+        Files.createDirectories(directory);
+        List<Entry> entries = new ArrayList<>();
+        long lastSegmentId = 0;
+        for (Path file : segmentFiles()) {
+            long segmentId = segmentId(file);
+            lastSegmentId = Math.max(lastSegmentId, segmentId);
+            long lastId = readSegment(file, segmentId, entries);
+            closed.addLast(new Segment(segmentId, file, lastId));
+        }
+        roll(lastSegmentId);
+        log.info("chat log opened: {} segments, {} records to replay", closed.size(), entries.size());
+        return entries;
+    }
+
+    synchronized long append(byte[] payload) throws IOException {
+        if (channel.position() >= segmentBytes) {
+            roll(active.id());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+
+        long position = channel.position();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        long id = (active.id() << 32) | position;
+        active = new Segment(active.id(), active.file(), id);
+        writtenId = id;
+        return id;
+    }
+
+    // id 까지 디스크에 내려감을 보장 (fsync 를 안 쓰면 바로 반환)
+    // 먼저 syncLock 을 잡은 스레드가 그때까지 쓴 레코드 전부를 force 한 번으로 내림,
+    // 그동안 기다린 스레드는 자기 레코드가 이미 포함됐으면 force 없이 반환
+    void sync(long id) throws IOException {
+        if (!fsync) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedId.get() >= id) {
+                return;
+            }
+            long upTo = writtenId;
+            FileChannel target;
+            synchronized (this) {
+                target = channel;
+            }
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // 그 사이 세그먼트가 바뀜: roll 이 닫기 전에 force 하고 syncedId 를 올려 둠
+                if (syncedId.get() < id) {
+                    throw e;
+                }
+                return;
+            }
+            syncs.incrementAndGet();
+            syncedId.accumulateAndGet(upTo, Math::max);
+        }
+    }
+
+    // force 횟수 (chat.log.sync 지표)
+    long syncCount() {
+        return syncs.get();
+    }
+
+    // id 까지 DB 에 저장됨 → 그 이전 닫힌 세그먼트 삭제
+    synchronized void checkpoint(long id) {
+        while (!closed.isEmpty() && closed.peekFirst().lastId() <= id) {
+            Segment drained = closed.pollFirst();
+            try {
+                Files.deleteIfExists(drained.file());
+            } catch (IOException e) {
+                log.warn("could not delete drained chat log segment {}", drained.file(), e);
+            }
+        }
+    }
+
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            syncedId.accumulateAndGet(writtenId, Math::max);
+        }
+    }
+
+    private void roll(long previousSegmentId) throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            syncedId.accumulateAndGet(active.lastId(), Math::max);
+            closed.addLast(active);
+        }
+        // 로그 디렉터리를 지워도 id 가 이전 값과 겹치지 않도록 초 단위 시각 이상으로
+        long segmentId = Math.max(previousSegmentId + 1, System.currentTimeMillis() / 1000);
+        Path file = directory.resolve(String.format("%020d.log", segmentId));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        active = new Segment(segmentId, file, -1);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - ".log".length()));
+    }
+
+    // 마지막으로 읽은 레코드 id (없으면 -1)
+    private long readSegment(Path file, long segmentId, List<Entry> entries) throws IOException {
+        long lastId = -1;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            long position = 0;
+            while (true) {
+                header.clear();
+                if (readFully(in, header, position) < HEADER_BYTES) {
+                    break;
+                }
+                header.flip();
+                int length = header.getInt();
+                int expectedCrc = header.getInt();
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    log.warn("chat log {} corrupt at {}, ignoring the rest", file, position);
+                    break;
+                }
+                ByteBuffer body = ByteBuffer.allocate(length);
+                if (readFully(in, body, position + HEADER_BYTES) < length) {
+                    log.warn("chat log {} truncated at {}, ignoring the rest", file, position);
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(body.array());
+                if ((int) crc.getValue() != expectedCrc) {
+                    log.warn("chat log {} checksum mismatch at {}, ignoring the rest", file, position);
+                    break;
+                }
+                lastId = (segmentId << 32) | position;
+                entries.add(new Entry(lastId, body.array()));
+                position += HEADER_BYTES + length;
+            }
+        }
+        return lastId;
+    }
+
+    private static int readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private record Segment(long id, Path file, long lastId) {
+    }
+}
@@ -0,0 +1,495 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatConversation;
+import com.backend.domain.chat.ChatMessage;
+import com.backend.domain.chat.ChatRoomActivity;
+import com.backend.mapper.chat.MessageMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 메시지 write-behind 저장.
+ * - STOMP 핸들러는 큐에 넣기만 하고 바로 반환, 전용 스레드가 모아서 multi-row INSERT
+ * - batch-size 만큼 모이거나 flush-ms 가 지나면 저장
+ * - 큐가 가득 차면 offer-timeout-ms 만큼 기다린 뒤 거절 (backpressure, 호출 쪽에서 전송 안 하고 보낸 사람에게 알림)
+ * - 종료 시 큐에 남은 메시지를 모두 저장한 뒤 종료
+ * - 저장 후 메시지 객체에 DB id 를 채움 (LAST_INSERT_ID 부터 연속 id, chat_message 에 INSERT 하는 곳은 여기 하나뿐)
+ * - 같은 트랜잭션에서 chat_conversation(대화 목록 요약)도 갱신 (그룹방은 방마다 UPDATE 한 번)
+ * - flushNow(): 큐에 있는 것까지 지금 바로 저장 (최근 메시지 버퍼의 커서/로딩용)
+ *   flush-now-timeout-ms 안에 락을 못 잡거나 한 번 시도해서 실패하면 false (배치는 저장 스레드가 이어서 재시도)
+ * - 저장 스레드는 시도 한 번마다 flushLock 을 잡았다 놓음, 실패한 배치는 carried 에 두고 락 밖에서 기다린 뒤 다시 시도
+ *   (DB 장애 중에도 flushNow 호출 쪽이 무한정 막히지 않음)
+ * - chat.log.enabled: 큐에 넣기 전에 로컬 로그(ChatMessageLog)에 먼저 추가 → 디스크에 내려가면(sync) 전송 확정
+ *   fsync 는 group commit: appendLock 밖에서 sync → 동시에 보낸 메시지들이 force 한 번을 같이 씀
+ *   저장 스레드는 성공할 때까지 재시도 (로그 없으면 MAX_ATTEMPTS 까지), 재생은 MAX_ATTEMPTS 까지만
+ *   재시작 시 DB 에 없는 로그 레코드(log_node + log_id 기준)를 먼저 저장, 끝내 실패하면 시작 실패
+ *   log_id 는 노드마다 따로 증가하므로 chat.log.node-id 는 클러스터에서 노드마다 달라야 함 (기본값 cluster.node-id)
+ * - chat.writer.* 지표: 큐 크기, 적재/거절/저장/실패 수, 배치 저장 시간 / chat.log.sync: fsync 횟수
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MessageMapper messageMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ChatMessage> queue;
+    // 배치 저장은 항상 이 락 안에서 (id 순서 = 큐 순서 보장), 큐를 기다리는 동안에는 잡지 않음
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 저장 스레드 깨우기용 (첫 메시지 도착 / batch-size 도달)
+    private final Object arrival = new Object();
+    // 저장 못 한 배치 (큐보다 앞), 다음 시도(저장 스레드 또는 flushNow)가 먼저 가져감 — flushLock 안에서만 접근
+    private final List<ChatMessage> carried = new ArrayList<>();
+    private int carriedAttempts;
+    // 로그 추가 + 큐 적재를 묶음 (큐 순서 = 로그 순서, DB 의 최대 log_id 이하는 모두 저장된 것)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ChatMessageLog messageLog;
+    private final String logNode;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long flushMillis;
+    private final long offerTimeoutMillis;
+    private final long flushNowTimeoutMillis;
+
+    private final Counter enqueued;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private volatile boolean running = true;
+    private Thread worker;
+    private int idIncrement = 1;
+
+    public ChatMessageWriter(MessageMapper messageMapper,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry registry,
+                             ObjectMapper objectMapper,
+                             @Value("${chat.log.enabled:true}") boolean logEnabled,
+                             @Value("${chat.log.dir:chat-log}") String logDir,
+                             @Value("${chat.log.segment-bytes:67108864}") long segmentBytes,
+                             @Value("${chat.log.fsync:true}") boolean fsync,
+                             @Value("${chat.log.node-id:${cluster.node-id:local}}") String logNode,
+                             @Value("${chat.writer.queue-capacity:10000}") int capacity,
+                             @Value("${chat.writer.batch-size:500}") int batchSize,
+                             @Value("${chat.writer.flush-ms:200}") long flushMillis,
+                             @Value("${chat.writer.offer-timeout-ms:50}") long offerTimeoutMillis,
+                             @Value("${chat.writer.flush-now-timeout-ms:1000}") long flushNowTimeoutMillis) {
+        this.messageMapper = messageMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.flushNowTimeoutMillis = flushNowTimeoutMillis;
+        this.objectMapper = objectMapper;
+        this.messageLog = logEnabled ? new ChatMessageLog(Path.of(logDir), segmentBytes, fsync) : null;
+        this.logNode = logNode;
+
+        registry.gauge("chat.writer.queue.size", queue, BlockingQueue::size);
+        this.enqueued = registry.counter("chat.writer.enqueued");
+        this.rejected = registry.counter("chat.writer.rejected");
+        this.written = registry.counter("chat.writer.written");
+        this.failed = registry.counter("chat.writer.failed");
+        this.batchTimer = registry.timer("chat.writer.batch");
+        if (messageLog != null) {
+            FunctionCounter.builder("chat.log.sync", messageLog, ChatMessageLog::syncCount).register(registry);
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        try {
+            idIncrement = messageMapper.selectAutoIncrementIncrement();
+        } catch (Exception e) {
+            log.warn("could not read auto_increment_increment, assuming 1", e);
+        }
+        if (messageLog != null) {
+            replay(messageLog.open());
+        }
+        worker = new Thread(this::run, "chat-writer");
+        worker.start();
+    }
+
+    // false 면 큐가 가득 차서(또는 로그 추가 실패로) 거절된 것
+    public boolean enqueue(ChatMessage message) {
+        if (messageLog != null) {
+            return appendAndEnqueue(message);
+        }
+        try {
+            if (queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                enqueued.increment();
+                signalArrival();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private boolean appendAndEnqueue(ChatMessage message) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        while (true) {
+            long logId = -1;
+            appendLock.lock();
+            try {
+                // 큐에 넣는 쪽은 이 락 안에서만 → 여기서 본 빈자리는 add 때까지 유지
+                if (queue.remainingCapacity() > 0) {
+                    logId = messageLog.append(objectMapper.writeValueAsBytes(message));
+                    message.setLogId(logId);
+                    queue.add(message);
+                    enqueued.increment();
+                    signalArrival();
+                }
+            } catch (IOException e) {
+                log.error("chat log append failed", e);
+                rejected.increment();
+                return false;
+            } finally {
+                appendLock.unlock();
+            }
+            if (logId >= 0) {
+                return sync(logId);
+            }
+            if (System.nanoTime() >= deadline) {
+                rejected.increment();
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                return false;
+            }
+        }
+    }
+
+    // 디스크에 내려간 뒤에야 전송 확정, 실패하면 거절 (이미 큐에 들어가서 저장될 수는 있음 → 다시 보내면 중복 가능)
+    private boolean sync(long logId) {
+        try {
+            messageLog.sync(logId);
+            return true;
+        } catch (IOException e) {
+            log.error("chat log sync failed", e);
+            rejected.increment();
+            return false;
+        }
+    }
+
+    // 이전 실행에서 로그에만 있고 DB 에 없는 메시지를 저장
+    private void replay(List<ChatMessageLog.Entry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Long persisted = messageMapper.selectMaxLogIdFrom(logNode, entries.get(0).id());
+        long lastPersisted = persisted == null ? -1 : persisted;
+        List<ChatMessage> pending = new ArrayList<>();
+        for (ChatMessageLog.Entry entry : entries) {
+            if (entry.id() > lastPersisted) {
+                ChatMessage message = objectMapper.readValue(entry.payload(), ChatMessage.class);
+                message.setLogId(entry.id());
+                pending.add(message);
+            }
+        }
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            if (!writeWithRetries(new ArrayList<>(pending.subList(from, Math.min(from + batchSize, pending.size()))))) {
+                throw new IllegalStateException("chat log replay failed");
+            }
+        }
+        messageLog.checkpoint(entries.get(entries.size() - 1).id());
+        log.info("chat log replayed: {} of {} records were not in the database", pending.size(), entries.size());
+    }
+
+    // 큐에 있는 메시지를 호출한 스레드에서 바로 저장 (진행 중인 배치가 있으면 끝날 때까지 대기)
+    // 요청/레인 스레드에서 불리므로 락은 flush-now-timeout-ms 까지만 기다리고 배치마다 한 번만 시도
+    // false 면 아직 저장 안 된 메시지가 있음 (호출 쪽은 DB 에 있는 것만 보고 진행)
+    public boolean flushNow() {
+        try {
+            if (!flushLock.tryLock(flushNowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            List<ChatMessage> batch = new ArrayList<>(batchSize);
+            int attempts = take(batch);
+            while (!batch.isEmpty()) {
+                if (!tryWrite(batch, attempts + 1)) {
+                    carry(batch, attempts + 1);
+                    return false;
+                }
+                batch.clear();
+                attempts = take(batch);
+            }
+            return true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        synchronized (arrival) {
+            arrival.notifyAll();
+        }
+        worker.join();
+        if (messageLog != null) {
+            messageLog.close();
+        }
+    }
+
+    // 시도 한 번마다 flushLock 을 잡았다 놓음, 실패하면 carried 에 두고 락 밖에서 기다린 뒤 다시
+    private void run() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        int backoff = 0;
+        while (true) {
+            if (backoff > 0) {
+                pause(backoff);
+            } else {
+                try {
+                    awaitBatch();
+                } catch (InterruptedException e) {
+                    // 인터럽트되면 종료로 간주: 남은 건 큐가 빌 때까지 계속 저장
+                    running = false;
+                }
+            }
+            flushLock.lock();
+            try {
+                int attempts = take(batch);
+                if (batch.isEmpty()) {
+                    backoff = 0;
+                    if (!running) {
+                        break;
+                    }
+                    continue;
+                }
+                if (tryWrite(batch, attempts + 1)) {
+                    backoff = 0;
+                } else if (messageLog == null && attempts + 1 >= MAX_ATTEMPTS) {
+                    drop(batch);
+                    backoff = 0;
+                } else if (messageLog != null && !running) {
+                    // 종료 중: 로그에 남은 것은 다음 시작 때 저장
+                    abandon(batch);
+                    break;
+                } else {
+                    carry(batch, attempts + 1);
+                    backoff = attempts + 1;
+                }
+                batch.clear();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+        log.info("chat writer stopped");
+    }
+
+    // carried 가 있으면 그것부터 (지금까지 시도한 횟수 반환), 없으면 큐에서 — flushLock 안에서만
+    private int take(List<ChatMessage> batch) {
+        if (carried.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            return 0;
+        }
+        batch.addAll(carried);
+        carried.clear();
+        return carriedAttempts;
+    }
+
+    private void carry(List<ChatMessage> batch, int attempts) {
+        carried.addAll(batch);
+        carriedAttempts = attempts;
+    }
+
+    private void pause(int attempt) {
+        try {
+            Thread.sleep(Math.min(100L * attempt, 5000));
+        } catch (InterruptedException e) {
+            running = false;
+        }
+    }
+
+    // 첫 메시지를 기다린 뒤(최대 flush-ms) batch-size 가 차거나 flush-ms 가 지날 때까지 대기, 큐에서 꺼내지는 않음
+    private void awaitBatch() throws InterruptedException {
+        long flushNanos = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        synchronized (arrival) {
+            long deadline = System.nanoTime() + flushNanos;
+            while (queue.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(arrival, remaining);
+            }
+            deadline = System.nanoTime() + flushNanos;
+            while (queue.size() < batchSize && running) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(arrival, remaining);
+            }
+        }
+    }
+
+    // 매 적재마다 깨우지 않음 (놓친 신호는 flush-ms 대기 시간으로 보정됨)
+    private void signalArrival() {
+        int size = queue.size();
+        if (size == 1 || size >= batchSize) {
+            synchronized (arrival) {
+                arrival.notifyAll();
+            }
+        }
+    }
+
+    private boolean tryWrite(List<ChatMessage> batch, int attempt) {
+        try {
+            batchTimer.record(() -> insert(batch));
+            written.increment(batch.size());
+            if (messageLog != null) {
+                messageLog.checkpoint(batch.get(batch.size() - 1).getLogId());
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("chat batch insert failed (attempt {}, {} messages)", attempt, batch.size(), e);
+            return false;
+        }
+    }
+
+    // 시작 시 재생용 (다른 스레드가 아직 없음)
+    private boolean writeWithRetries(List<ChatMessage> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (tryWrite(batch, attempt)) {
+                return true;
+            }
+            pause(attempt);
+        }
+        return false;
+    }
+
+    private void drop(List<ChatMessage> batch) {
+        failed.increment(batch.size());
+        log.error("chat batch dropped after {} attempts: {} messages", MAX_ATTEMPTS, batch.size());
+    }
+
+    // 저장 못 한 배치 뒤의 메시지를 먼저 저장하면 log_id 기준 재생이 그 배치를 건너뜀 → 큐를 비우고 멈춤
+    private void abandon(List<ChatMessage> batch) {
+        int left = batch.size() + queue.size();
+        failed.increment(left);
+        batch.clear();
+        queue.clear();
+        running = false;
+        log.error("chat writer stopped with {} unsaved messages, they stay in the chat log for replay", left);
+    }
+
+    // INSERT 와 LAST_INSERT_ID 는 같은 커넥션이어야 하므로 트랜잭션으로 묶음, 대화 요약도 같이
+    private void insert(List<ChatMessage> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            messageMapper.insertMessages(batch, logNode);
+            long firstId = messageMapper.selectLastInsertId();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).setId((int) (firstId + (long) i * idIncrement));
+            }
+            List<ChatConversation> conversations = conversations(batch);
+            if (!conversations.isEmpty()) {
+                messageMapper.upsertConversations(conversations);
+            }
+            roomActivities(batch).forEach(messageMapper::updateRoomConversations);
+        });
+    }
+
+    // 1:1 메시지를 (회원, 방) 별 요약 변경분으로 합침: 보낸 사람은 읽음, 받은 사람은 안 읽은 수 +1
+    private List<ChatConversation> conversations(List<ChatMessage> batch) {
+        Map<String, ChatConversation> updates = new LinkedHashMap<>();
+        for (ChatMessage message : batch) {
+            if (message.getRecipientId() == null) {
+                continue; // 그룹방
+            }
+            ChatConversation sender = update(updates, message, message.getSenderId(),
+                    message.getRecipientId(), message.getRecipientNickName());
+            sender.setLastReadMessageId(message.getId());
+
+            ChatConversation recipient = update(updates, message, message.getRecipientId(),
+                    message.getSenderId(), message.getSenderNickName());
+            recipient.setUnreadCount(recipient.getUnreadCount() + 1);
+        }
+        return new ArrayList<>(updates.values());
+    }
+
+    // 그룹방 메시지를 방별 변경분으로 합침 (멤버 수와 상관없이 방마다 UPDATE 한 번)
+    private List<ChatRoomActivity> roomActivities(List<ChatMessage> batch) {
+        Map<String, ChatRoomActivity> activities = new LinkedHashMap<>();
+        for (ChatMessage message : batch) {
+            if (message.getRecipientId() != null) {
+                continue;
+            }
+            ChatRoomActivity activity = activities.computeIfAbsent(message.getRoomKey(), key -> {
+                ChatRoomActivity created = new ChatRoomActivity();
+                created.setRoomKey(key);
+                return created;
+            });
+            activity.setLastMessage(message.getContent());
+            activity.setLastMessageId(message.getId());
+            activity.setLastTimestamp(message.getTimestamp());
+            activity.setMessageCount(activity.getMessageCount() + 1);
+
+            ChatRoomActivity.Sender sender = activity.getSenders().stream()
+                    .filter(s -> s.getMemberId().equals(message.getSenderId()))
+                    .findFirst()
+                    .orElseGet(() -> {
+                        ChatRoomActivity.Sender created = new ChatRoomActivity.Sender();
+                        created.setMemberId(message.getSenderId());
+                        activity.getSenders().add(created);
+                        return created;
+                    });
+            sender.setCount(sender.getCount() + 1);
+            sender.setLastId(message.getId());
+        }
+        return new ArrayList<>(activities.values());
+    }
+
+    private ChatConversation update(Map<String, ChatConversation> updates, ChatMessage message,
+                                    Integer memberId, Integer peerId, String peerNickname) {
+        ChatConversation conversation = updates.computeIfAbsent(memberId + "|" + message.getRoomKey(), key -> {
+            ChatConversation created = new ChatConversation();
+            created.setMemberId(memberId);
+            created.setRoomKey(message.getRoomKey());
+            created.setPeerId(peerId);
+            created.setUnreadCount(0);
+            created.setLastReadMessageId(0);
+            return created;
+        });
+        conversation.setPeerNickname(peerNickname);
+        conversation.setLastMessage(message.getContent());
+        conversation.setLastMessageId(message.getId());
+        conversation.setLastTimestamp(message.getTimestamp());
+        return conversation;
+    }
+}
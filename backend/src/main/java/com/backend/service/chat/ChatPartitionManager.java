@@ -0,0 +1,155 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatPartition;
+import com.backend.mapper.chat.ChatPartitionMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chat_message 월별 파티션 관리 (sql/chat.sql 의 RANGE COLUMNS(timestamp) 파티션).
+ * - 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 만듦 (p_future 를 나눔, 데이터 이동 없음)
+ * - 상한이 archive-after-months 개월보다 오래된 파티션은 ChatArchive 로 내보낸 뒤 DROP
+ * - 파티션이 없는 테이블(마이그레이션 전)이면 아무 것도 안 함
+ * - 클러스터: 모든 노드에서 실행되지만 DB 락(GET_LOCK)을 잡은 노드 하나만 작업, 나머지는 보관 색인만 다시 읽음
+ *   (chat.archive.dir 은 모든 노드가 같이 보는 공유 저장소여야 함)
+ * - 내보내기는 오래 걸리므로 스케줄러 스레드가 아닌 전용 스레드에서 (이미 대기 중이면 더 쌓지 않음)
+ */
+@Slf4j
+@Component
+public class ChatPartitionManager {
+
+    private static final String FUTURE = "p_future";
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String LOCK = "chat_partition_maintenance";
+
+    private final ChatPartitionMapper partitionMapper;
+    private final ChatArchive archive;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private final ThreadPoolExecutor worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), r -> new Thread(r, "chat-partition-maintenance"), new ThreadPoolExecutor.DiscardPolicy());
+
+    public ChatPartitionManager(ChatPartitionMapper partitionMapper,
+                                ChatArchive archive,
+                                DataSource dataSource,
+                                @Value("${chat.partition.enabled:true}") boolean enabled,
+                                @Value("${chat.partition.months-ahead:3}") int monthsAhead,
+                                @Value("${chat.partition.archive-after-months:12}") int archiveAfterMonths) {
+        this.partitionMapper = partitionMapper;
+        this.archive = archive;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        worker.execute(this::maintain);
+    }
+
+    @Scheduled(cron = "${chat.partition.cron:0 30 3 * * *}")
+    public void schedule() {
+        worker.execute(this::maintain);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    public synchronized void maintain() {
+        if (!enabled) {
+            return;
+        }
+        // GET_LOCK 은 커넥션 단위 → 작업이 끝날 때까지 이 커넥션을 잡아 두고 같은 커넥션에서 해제
+        try (Connection lock = dataSource.getConnection()) {
+            if (!lock(lock, "SELECT GET_LOCK(?, 0)")) {
+                log.info("chat partition maintenance is running on another node, reloading archive index only");
+                archive.reload();
+                return;
+            }
+            try {
+                List<ChatPartition> partitions = partitionMapper.selectPartitions();
+                if (partitions.stream().noneMatch(p -> FUTURE.equals(p.getName()))) {
+                    log.info("chat_message is not partitioned, skipping partition maintenance");
+                    return;
+                }
+                createAhead(partitions);
+                archiveOld(partitions);
+            } finally {
+                lock(lock, "SELECT RELEASE_LOCK(?)");
+            }
+        } catch (Exception e) {
+            log.error("chat partition maintenance failed", e);
+        }
+    }
+
+    // GET_LOCK / RELEASE_LOCK 결과가 1 이면 true
+    private static boolean lock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getInt(1) == 1;
+            }
+        }
+    }
+
+    // 마지막 달 파티션 다음 달부터 차례로 (p_future 분할은 가장 큰 상한 뒤에만 가능)
+    private void createAhead(List<ChatPartition> partitions) {
+        LocalDate highest = partitions.stream()
+                .map(ChatPartitionManager::upperBound)
+                .filter(b -> b != null)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth month = highest == null ? YearMonth.now() : YearMonth.from(highest);
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            String bound = month.plusMonths(1).atDay(1) + " 00:00:00";
+            partitionMapper.addPartition(month.format(NAME), bound);
+            log.info("chat_message partition {} created (< {})", month.format(NAME), bound);
+        }
+    }
+
+    private void archiveOld(List<ChatPartition> partitions) throws Exception {
+        LocalDate cutoff = YearMonth.now().minusMonths(archiveAfterMonths).atDay(1);
+        for (ChatPartition partition : partitions) {
+            LocalDate bound = upperBound(partition);
+            if (bound == null || bound.isAfter(cutoff)) {
+                continue;
+            }
+            archive.export(partition.getName(), bound);
+            partitionMapper.dropPartition(partition.getName());
+            log.info("chat_message partition {} archived and dropped", partition.getName());
+        }
+    }
+
+    // '2026-11-01 00:00:00' → 2026-11-01, MAXVALUE 는 null
+    private static LocalDate upperBound(ChatPartition partition) {
+        String description = partition.getDescription();
+        if (description == null || description.startsWith("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+}
@@ -0,0 +1,257 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatHistoryPage;
+import com.backend.domain.chat.ChatMessage;
+import com.backend.mapper.chat.MessageMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 대화방별 최근 메시지 링 버퍼.
+ * - 방마다 최근 room-capacity 개 보관, 처음 조회 시 DB 에서 로딩 (전송 경로에서는 로딩 안 함 → 레인 스레드에 DB 접근 없음)
+ * - 전송 시 "저장 큐 적재 + 버퍼 추가" 를 방 단위 락 안에서 같이 처리 → 버퍼 순서 = 저장(id) 순서
+ *   아직 로딩 안 된 방은 큐에만 넣고 보낸 수(unbuffered)만 셈 → 로딩 쪽이 flush 와 로딩 사이에 끼어든 전송을 알아챔
+ * - 전체 보관 메시지 수가 max-messages 를 넘으면 오래 안 쓴 방부터 제거 (LRU)
+ * - 버퍼로 답할 수 있는 조회는 DB 접근 없음, 적중률은 chat.buffer.hit / chat.buffer.miss / chat.buffer.hit.ratio
+ * - writer.flushNow() 는 방 락 밖에서만 호출 (저장이 느려도 같은 방의 전송/조회가 락에 묶이지 않게)
+ * - cluster.mode=tcp 면 사용 안 함 (다른 노드로 보낸 메시지는 이 노드 버퍼에 없음 → 빈 구간이 있는 페이지가 됨), 항상 DB 조회
+ */
+@Component
+public class ChatRecentBuffer {
+
+    private final MessageMapper messageMapper;
+    private final ChatMessageWriter writer;
+    private final int roomCapacity;
+    private final int maxMessages;
+    private final boolean enabled;
+    private final Map<String, Room> rooms = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicInteger totalMessages = new AtomicInteger();
+    // flush 와 로딩 사이에 전송이 끼어들면 다시 시도하는 횟수 (넘으면 이번 조회는 DB 로)
+    private static final int LOAD_ATTEMPTS = 3;
+    // Room.page 가 커서로 쓸 id 가 아직 없다고 알릴 때 쓰는 표시값
+    private static final ChatHistoryPage NEEDS_FLUSH = new ChatHistoryPage(List.of(), null, true);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ChatRecentBuffer(MessageMapper messageMapper,
+                            ChatMessageWriter writer,
+                            MeterRegistry registry,
+                            @Value("${chat.buffer.room-capacity:200}") int roomCapacity,
+                            @Value("${chat.buffer.max-messages:100000}") int maxMessages,
+                            @Value("${cluster.mode:local}") String clusterMode) {
+        this.messageMapper = messageMapper;
+        this.enabled = "local".equals(clusterMode);
+        this.writer = writer;
+        this.roomCapacity = roomCapacity;
+        this.maxMessages = maxMessages;
+        this.hits = registry.counter("chat.buffer.hit");
+        this.misses = registry.counter("chat.buffer.miss");
+        registry.gauge("chat.buffer.messages", totalMessages);
+        registry.gauge("chat.buffer.hit.ratio", this, buffer -> buffer.hitRatio());
+    }
+
+    // enqueue 가 false(저장 큐 가득 참)면 버퍼에도 넣지 않음, 로딩된 방만 버퍼에 추가
+    public boolean append(ChatMessage message, Predicate<ChatMessage> enqueue) {
+        if (!enabled) {
+            return enqueue.test(message);
+        }
+        while (true) {
+            Room room = room(message.getRoomKey());
+            synchronized (room) {
+                if (room.evicted) {
+                    continue; // 그 사이 제거됨: 새 방 객체에 기록해야 로딩 쪽이 봄
+                }
+                if (!enqueue.test(message)) {
+                    return false;
+                }
+                if (room.loaded) {
+                    room.add(message);
+                } else {
+                    room.unbuffered++;
+                }
+            }
+            break;
+        }
+        enforceCap(message.getRoomKey());
+        return true;
+    }
+
+    // 버퍼로 답할 수 없으면 null (DB 조회)
+    public ChatHistoryPage page(String roomKey, Integer before, int size) {
+        if (!enabled) {
+            return null;
+        }
+        Room room = room(roomKey);
+        if (!ensureLoaded(room)) {
+            misses.increment();
+            return null;
+        }
+        ChatHistoryPage page;
+        synchronized (room) {
+            page = room.page(before, size);
+        }
+        if (page == NEEDS_FLUSH) {
+            // 커서로 쓸 id 가 아직 없음
+            if (writer.flushNow()) {
+                synchronized (room) {
+                    page = room.page(before, size);
+                }
+            }
+            if (page == NEEDS_FLUSH) {
+                page = null; // 저장이 밀려 있음
+            }
+        }
+        enforceCap(roomKey);
+        if (page == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return page;
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    // 아직 큐에 있는 이 방 메시지까지 DB 에 반영한 뒤 로딩 (flush 는 방 락 밖에서, 조회 쪽에서만)
+    // flush 뒤에 이 방으로 보낸 메시지는 DB 에 없을 수 있음 → unbuffered 가 바뀌었으면 다시, false 면 이번 조회는 DB 로
+    private boolean ensureLoaded(Room room) {
+        for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
+            int seen;
+            synchronized (room) {
+                if (room.loaded) {
+                    return true;
+                }
+                seen = room.unbuffered;
+            }
+            if (!writer.flushNow()) {
+                return false;
+            }
+            synchronized (room) {
+                if (room.loaded) {
+                    return true;
+                }
+                if (room.unbuffered == seen) {
+                    room.load();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Room room(String roomKey) {
+        synchronized (rooms) {
+            return rooms.computeIfAbsent(roomKey, Room::new);
+        }
+    }
+
+    // 방금 쓴 방은 빼고 오래된 방부터 제거
+    private void enforceCap(String currentKey) {
+        if (totalMessages.get() <= maxMessages) {
+            return;
+        }
+        synchronized (rooms) {
+            Iterator<Map.Entry<String, Room>> it = rooms.entrySet().iterator();
+            while (totalMessages.get() > maxMessages && it.hasNext()) {
+                Map.Entry<String, Room> eldest = it.next();
+                if (eldest.getKey().equals(currentKey)) {
+                    continue;
+                }
+                it.remove();
+                Room room = eldest.getValue();
+                synchronized (room) {
+                    room.evicted = true; // 제거 후 들어온 메시지는 집계하지 않음
+                    totalMessages.addAndGet(-room.size);
+                }
+            }
+        }
+    }
+
+    private class Room {
+        private final String key;
+        private ChatMessage[] ring; // 로딩할 때 만듦 (전송만 있는 방은 버퍼 공간을 쓰지 않음)
+        private int head; // 가장 오래된 메시지 위치
+        private int size;
+        private volatile boolean loaded; // true 가 된 뒤로는 바뀌지 않음
+        private int unbuffered; // 로딩 전에 큐에만 넣은 전송 수
+        private boolean complete; // 대화 전체가 버퍼에 있음 (더 오래된 메시지 없음)
+        private boolean evicted;
+
+        Room(String key) {
+            this.key = key;
+        }
+
+        void load() {
+            ring = new ChatMessage[roomCapacity];
+            List<ChatMessage> rows = messageMapper.selectRoomPage(key, null, roomCapacity);
+            complete = rows.size() < roomCapacity;
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                add(rows.get(i));
+            }
+            loaded = true;
+        }
+
+        void add(ChatMessage message) {
+            if (size == ring.length) {
+                ring[head] = message;
+                head = (head + 1) % ring.length;
+                complete = false;
+                return;
+            }
+            ring[(head + size) % ring.length] = message;
+            size++;
+            if (!evicted) {
+                totalMessages.incrementAndGet();
+            }
+        }
+
+        ChatMessage get(int index) {
+            return ring[(head + index) % ring.length];
+        }
+
+        ChatHistoryPage page(Integer before, int limit) {
+            // before 보다 작은 id 까지 (저장 전 메시지는 id 가 없고 항상 가장 최신 쪽)
+            int end = size;
+            if (before != null) {
+                end = 0;
+                while (end < size && get(end).getId() != null && get(end).getId() < before) {
+                    end++;
+                }
+            }
+            int start = end - limit;
+            if (start < 0 && !complete) {
+                return null; // 버퍼보다 더 오래된 메시지가 필요
+            }
+            start = Math.max(0, start);
+            boolean hasMore = start > 0 || !complete;
+
+            Integer cursor = null;
+            if (hasMore) {
+                cursor = get(start).getId();
+                if (cursor == null) {
+                    return NEEDS_FLUSH;
+                }
+            }
+            List<ChatMessage> messages = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                messages.add(get(i));
+            }
+            return new ChatHistoryPage(Collections.unmodifiableList(messages), cursor, hasMore);
+        }
+    }
+}
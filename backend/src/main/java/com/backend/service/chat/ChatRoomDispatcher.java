@@ -0,0 +1,80 @@
+package com.backend.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화방 단위 순서 보장 실행기.
+ * - roomId 해시로 N 개의 단일 스레드 lane 중 하나에 배정 → 같은 방은 항상 같은 lane 에서 순서대로 처리
+ * - 다른 방끼리는 서로 다른 lane 에서 병렬 처리
+ * - lane 큐가 가득 차면 거절 (chat.lane.rejected), 호출 쪽에서 보낸 사람에게 알림
+ * - 종료 순서: lane 이 남은 작업을 다 처리한 뒤 저장 스레드(ChatMessageWriter)가 종료
+ *   (@DependsOn → 이 빈이 먼저 소멸, lane 작업이 넣은 메시지까지 저장 스레드가 마저 저장)
+ */
+@Slf4j
+@Component
+@DependsOn("chatMessageWriter")
+public class ChatRoomDispatcher {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Counter rejected;
+
+    public ChatRoomDispatcher(MeterRegistry registry,
+                              @Value("${chat.lane.count:0}") int laneCount,
+                              @Value("${chat.lane.queue-capacity:2000}") int queueCapacity) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            String name = "chat-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(runnable, name));
+            registry.gauge("chat.lane.queue.size", Tags.of("lane", String.valueOf(i)),
+                    lanes[i], executor -> executor.getQueue().size());
+        }
+        this.rejected = registry.counter("chat.lane.rejected");
+    }
+
+    // false 면 lane 이 가득 차서 거절됨
+    public boolean dispatch(String roomId, Runnable task) {
+        ThreadPoolExecutor lane = lanes[Math.floorMod(roomId.hashCode(), lanes.length)];
+        try {
+            lane.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // lane 스레드가 죽지 않도록 여기서 처리
+                    log.error("chat task failed: room={}", roomId, e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    // 남은 작업을 처리한 뒤 종료 (@DependsOn 으로 저장 스레드보다 먼저), 시간 안에 못 끝낸 작업은 버림
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("chat lane did not finish in time, {} tasks dropped", lane.shutdownNow().size());
+            }
+        }
+    }
+}
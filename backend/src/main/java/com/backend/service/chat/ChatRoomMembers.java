@@ -0,0 +1,75 @@
+package com.backend.service.chat;
+
+import com.backend.mapper.chat.ChatRoomMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 그룹방 멤버 캐시 (전송/구독 허용 판단용).
+ * - 방별 멤버 id 집합을 보관, 메시지마다 chat_room_member 조회하지 않음
+ * - 멤버 변경은 ChatRoomService 가 evict, 다른 노드에서의 변경은 TTL 로 반영
+ *   (클러스터에서는 다른 노드에서 나간 회원도 TTL 동안 이 노드에서 전송/구독 가능)
+ * - TTL + LRU 로 크기 제한, 무효화와 겹친 로딩 결과는 넣지 않음 (stamp 확인과 put 을 evict 와 같은 락 안에서)
+ */
+@Component
+public class ChatRoomMembers {
+
+    private final ChatRoomMapper chatRoomMapper;
+    private final long ttlMillis;
+    private final Map<Integer, Entry> rooms;
+    private final AtomicLong stamp = new AtomicLong();
+
+    public ChatRoomMembers(ChatRoomMapper chatRoomMapper,
+                           @Value("${chat.room.members.ttl-seconds:60}") long ttlSeconds,
+                           @Value("${chat.room.members.max-rooms:5000}") int maxRooms) {
+        this.chatRoomMapper = chatRoomMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.rooms = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > maxRooms;
+            }
+        });
+    }
+
+    public boolean isMember(Integer roomId, Integer memberId) {
+        return memberId != null && members(roomId).contains(memberId);
+    }
+
+    // 없는 방이면 빈 집합
+    public Set<Integer> members(Integer roomId) {
+        if (roomId == null) {
+            return Set.of();
+        }
+        long now = System.currentTimeMillis();
+        Entry cached = rooms.get(roomId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.members();
+        }
+
+        long before = stamp.get();
+        Entry loaded = new Entry(Set.copyOf(chatRoomMapper.selectMemberIds(roomId)), now + ttlMillis);
+        synchronized (rooms) {
+            if (stamp.get() == before) {
+                rooms.put(roomId, loaded);
+            }
+        }
+        return loaded.members();
+    }
+
+    public void evict(Integer roomId) {
+        synchronized (rooms) {
+            stamp.incrementAndGet();
+            rooms.remove(roomId);
+        }
+    }
+
+    private record Entry(Set<Integer> members, long expiresAt) {
+    }
+}
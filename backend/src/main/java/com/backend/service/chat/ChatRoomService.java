@@ -0,0 +1,137 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatRoom;
+import com.backend.mapper.chat.ChatRoomMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 그룹 대화방.
+ * - 메시지는 방 하나에 한 행(room_key = "g{id}", recipient_id 없음), 전송은 /topic/chatroom/g{id} 한 번
+ * - 안 읽은 수는 멤버별 chat_conversation 행, 저장 배치마다 방 단위 UPDATE 한 번으로 갱신 (ChatMessageWriter)
+ * - 나가면 그 회원의 방 구독도 해제 (ChatRoomSubscriptions)
+ */
+@Service
+public class ChatRoomService {
+	private static final String GROUP_PREFIX = "g";
+
+	private final ChatRoomMapper chatRoomMapper;
+	private final ChatRoomMembers roomMembers;
+	private final ChatRoomSubscriptions subscriptions;
+	private final ChatMessageWriter writer;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxMembers;
+
+	public ChatRoomService(ChatRoomMapper chatRoomMapper,
+						   ChatRoomMembers roomMembers,
+						   ChatRoomSubscriptions subscriptions,
+						   ChatMessageWriter writer,
+						   PlatformTransactionManager transactionManager,
+						   @Value("${chat.room.max-members:500}") int maxMembers) {
+		this.chatRoomMapper = chatRoomMapper;
+		this.roomMembers = roomMembers;
+		this.subscriptions = subscriptions;
+		this.writer = writer;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxMembers = maxMembers;
+	}
+
+	// 만든 사람 + 초대한 회원, 이름이 없거나 인원 초과면 null
+	public ChatRoom create(Integer ownerId, String name, List<Integer> memberIds) {
+		Set<Integer> members = new LinkedHashSet<>();
+		members.add(ownerId);
+		if (memberIds != null) {
+			members.addAll(memberIds);
+		}
+		members.remove(null);
+		if (name == null || name.isBlank() || members.size() > maxMembers) {
+			return null;
+		}
+
+		ChatRoom room = new ChatRoom();
+		room.setName(name.trim());
+		room.setOwnerId(ownerId);
+		List<Integer> ids = new ArrayList<>(members);
+		transactionTemplate.executeWithoutResult(status -> {
+			chatRoomMapper.insertRoom(room);
+			chatRoomMapper.insertMembers(room.getId(), ids);
+			chatRoomMapper.insertConversations(room.getId(), roomKey(room.getId()), room.getName(), ids);
+		});
+		roomMembers.evict(room.getId());
+		room.setMemberIds(List.copyOf(roomMembers.members(room.getId())));
+		return room;
+	}
+
+	// 멤버만 초대 가능, 방이 없거나 권한/인원 초과면 false
+	public boolean addMembers(Integer roomId, Integer requesterId, List<Integer> memberIds) {
+		ChatRoom room = chatRoomMapper.selectRoom(roomId);
+		Set<Integer> current = roomMembers.members(roomId);
+		if (room == null || !current.contains(requesterId) || memberIds == null || memberIds.isEmpty()) {
+			return false;
+		}
+		List<Integer> added = memberIds.stream().filter(id -> id != null && !current.contains(id)).distinct().toList();
+		if (current.size() + added.size() > maxMembers) {
+			return false;
+		}
+		if (added.isEmpty()) {
+			return true;
+		}
+		// 큐에 남은 메시지를 먼저 저장 → 초대 전 메시지가 새 멤버의 안 읽은 수에 들어가지 않음 (저장이 밀려 있으면 기다리지 않음)
+		writer.flushNow();
+		transactionTemplate.executeWithoutResult(status -> {
+			chatRoomMapper.insertMembers(roomId, added);
+			chatRoomMapper.insertConversations(roomId, roomKey(roomId), room.getName(), added);
+		});
+		roomMembers.evict(roomId);
+		return true;
+	}
+
+	public boolean leave(Integer roomId, Integer memberId) {
+		boolean removed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+			if (chatRoomMapper.deleteMember(roomId, memberId) == 0) {
+				return false;
+			}
+			chatRoomMapper.deleteConversation(memberId, roomKey(roomId));
+			return true;
+		}));
+		roomMembers.evict(roomId);
+		if (removed) {
+			subscriptions.revoke(roomId, memberId);
+		}
+		return removed;
+	}
+
+	// 멤버만 조회 가능, 아니면 null
+	public Set<Integer> members(Integer roomId, Integer requesterId) {
+		Set<Integer> members = roomMembers.members(roomId);
+		return members.contains(requesterId) ? members : null;
+	}
+
+	public boolean isMember(String roomKey, Integer memberId) {
+		Integer roomId = groupId(roomKey);
+		return roomId != null && roomMembers.isMember(roomId, memberId);
+	}
+
+	public static String roomKey(Integer roomId) {
+		return GROUP_PREFIX + roomId;
+	}
+
+	// "g{id}" 면 그룹방 id, 1:1 방 키("작은id-큰id")나 잘못된 값이면 null
+	public static Integer groupId(String roomKey) {
+		if (roomKey == null || !roomKey.startsWith(GROUP_PREFIX)) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(roomKey.substring(GROUP_PREFIX.length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.backend.service.chat;
+
+import com.backend.security.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹방 구독 추적 (방을 나간 회원의 구독 해제용).
+ * - 이 노드의 /topic/chatroom/g{id} 구독을 세션별로 기록
+ * - revoke(방, 회원): 그 회원의 구독을 브로커에서 해제 (클라이언트 UNSUBSCRIBE 와 같은 메시지 + SessionUnsubscribeEvent)
+ * - 구독 확인(StompAuthChannelInterceptor)과 나가기가 겹치는 경우: 기록한 뒤 멤버인지 다시 확인해서 아니면 바로 해제
+ * - 노드 로컬: 다른 노드에 붙은 세션은 그 노드의 멤버 캐시 TTL 뒤 새 구독부터 막힘
+ */
+@Component
+public class ChatRoomSubscriptions {
+
+    private static final String PREFIX = "/topic/chatroom/";
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ChatRoomMembers roomMembers;
+    private final MessageChannel clientInboundChannel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // sessionId → (subscriptionId → 구독)
+    private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+
+    public ChatRoomSubscriptions(ChatRoomMembers roomMembers,
+                                 @Qualifier("clientInboundChannel") MessageChannel clientInboundChannel,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.roomMembers = roomMembers;
+        this.clientInboundChannel = clientInboundChannel;
+        this.eventPublisher = eventPublisher;
+    }
+
+    private record Subscription(Integer roomId, Integer memberId, Principal user) {
+    }
+
+    // 방을 나간 회원의 이 노드 구독을 모두 해제
+    public void revoke(Integer roomId, Integer memberId) {
+        sessions.forEach((sessionId, subscriptions) -> subscriptions.forEach((subscriptionId, subscription) -> {
+            if (subscription.roomId().equals(roomId) && subscription.memberId().equals(memberId)) {
+                unsubscribe(sessionId, subscriptionId, subscription);
+            }
+        }));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(PREFIX)
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Integer roomId = ChatRoomService.groupId(destination.substring(PREFIX.length()));
+        Integer memberId = memberId(event.getUser());
+        if (roomId == null || memberId == null) {
+            return;
+        }
+        Subscription subscription = new Subscription(roomId, memberId, event.getUser());
+        sessions.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), subscription);
+        // 구독 확인 뒤 나갔으면 revoke 가 이 구독을 못 봤을 수 있음
+        if (!roomMembers.isMember(roomId, memberId)) {
+            unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId(), subscription);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Subscription> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            subscriptions.remove(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId, Subscription subscription) {
+        Map<String, Subscription> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null || !subscriptions.remove(subscriptionId, subscription)) {
+            return; // 이미 해제됨
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setUser(subscription.user());
+        Message<byte[]> message = MessageBuilder.createMessage(EMPTY, accessor.getMessageHeaders());
+        clientInboundChannel.send(message);
+        // 클러스터 관심(ClusterRelay) 등 구독 해제 이벤트를 보는 쪽도 정리
+        eventPublisher.publishEvent(new SessionUnsubscribeEvent(this, message, subscription.user()));
+    }
+
+    private static Integer memberId(Principal principal) {
+        if (principal instanceof UsernamePasswordAuthenticationToken auth
+                && auth.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -1,28 +1,85 @@
 package com.backend.service.chat;
 
+import com.backend.domain.chat.ChatConversation;
+import com.backend.domain.chat.ChatHistoryPage;
+import com.backend.domain.chat.ChatInboxPage;
 import com.backend.domain.chat.ChatMessage;
 import com.backend.mapper.chat.MessageMapper;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
 public class MessageService {
+	private static final int MAX_PAGE_SIZE = 200;
+
 	private final MessageMapper messageMapper;
+	private final ChatMessageWriter writer;
+	private final ChatRecentBuffer recentBuffer;
+	private final ChatArchive archive;
 
-	public MessageService(MessageMapper messageMapper) {
+	public MessageService(MessageMapper messageMapper, ChatMessageWriter writer, ChatRecentBuffer recentBuffer,
+						  ChatArchive archive) {
 		this.messageMapper = messageMapper; // 메시지 매퍼 초기화
+		this.writer = writer;
+		this.recentBuffer = recentBuffer;
+		this.archive = archive;
+	}
+
+	// 저장 큐에 넣고 최근 메시지 버퍼에 추가 (실제 INSERT 는 ChatMessageWriter 가 모아서), 큐가 가득 차면 false
+	// 그룹방 메시지는 호출 쪽에서 roomKey("g{id}") 를 채워서 넘김
+	public boolean saveMessage(ChatMessage message) {
+		if (message.getRoomKey() == null) {
+			message.setRoomKey(roomKey(message.getSenderId(), message.getRecipientId()));
+		}
+		return recentBuffer.append(message, writer::enqueue);
+	}
+
+	// 대화 목록 (최근 순), 인덱스 쿼리 한 번
+	public ChatInboxPage getInbox(Integer memberId, LocalDateTime beforeTime, String beforeRoomKey, int size) {
+		int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		List<ChatConversation> rows = messageMapper.selectInbox(memberId, beforeTime, beforeRoomKey, limit + 1);
+		if (rows.size() <= limit) {
+			return new ChatInboxPage(rows, null, null, false);
+		}
+		List<ChatConversation> page = rows.subList(0, limit);
+		ChatConversation last = page.get(limit - 1);
+		return new ChatInboxPage(page, last.getLastTimestamp(), last.getRoomKey(), true);
 	}
 
-	public void saveMessage(ChatMessage message) {
-		messageMapper.insertMessage(message); // 메시지 저장
+	// 읽음 처리 전 큐에 남은 메시지를 먼저 저장 (나중에 저장되며 안 읽은 수가 다시 올라가는 것 방지)
+	// 저장이 밀려 있으면(flushNow false) 기다리지 않고 진행, 그때 남은 메시지는 안 읽은 수에 들어감
+	public boolean markRead(Integer memberId, String roomKey, Integer messageId) {
+		writer.flushNow();
+		return messageMapper.markRead(memberId, roomKey, messageId) > 0;
 	}
 
-	public List<ChatMessage> getMessagesForUser(Integer recipientId) {
-		return messageMapper.findMessagesByRecipient(recipientId); // 수신자에 대한 메시지 반환
+	// 최근 size 개 (오래된 순으로 반환), before 가 있으면 그 id 이전 메시지
+	public ChatHistoryPage getMessagesForRoom(String roomKey, Integer before, int size) {
+		int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		// 최근 메시지는 버퍼에서 (DB 접근 없음), 버퍼가 "더 없음" 이라도 보관 파일에 있으면 이어서 조회
+		ChatHistoryPage buffered = recentBuffer.page(roomKey, before, limit);
+		if (buffered != null && (buffered.hasMore() || !archive.contains(roomKey))) {
+			return buffered;
+		}
+		List<ChatMessage> rows = new ArrayList<>(messageMapper.selectRoomPage(roomKey, before, limit + 1));
+		// DB 에 남은 것보다 오래된 메시지는 보관 파일(ChatArchive)에서
+		if (rows.size() <= limit && archive.contains(roomKey)) {
+			Integer cursor = rows.isEmpty() ? before : rows.get(rows.size() - 1).getId();
+			rows.addAll(archive.page(roomKey, cursor, limit + 1 - rows.size()));
+		}
+		boolean hasMore = rows.size() > limit;
+		List<ChatMessage> messages = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+		Collections.reverse(messages);
+		Integer nextBefore = hasMore ? messages.get(0).getId() : null;
+		return new ChatHistoryPage(messages, nextBefore, hasMore);
 	}
 
-	public List<ChatMessage> getMessagesForRoom(Integer senderId, Integer recipientId) {
-		return messageMapper.findMessagesByRoom(senderId, recipientId); // 채팅방에 대한 메시지 반환
+	// 두 회원 대화방의 고유 키 (순서 무관)
+	public static String roomKey(Integer a, Integer b) {
+		return Math.min(a, b) + "-" + Math.max(a, b);
 	}
 }
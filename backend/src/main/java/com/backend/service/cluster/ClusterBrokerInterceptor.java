@@ -0,0 +1,44 @@
+package com.backend.service.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * brokerChannel 인터셉터: 이 노드에서 발행한 채팅방/접속 상태 메시지를 다른 노드로도 전달.
+ * - 로컬 구독자에게는 원래대로 simple broker 가 전달
+ * - 다른 노드에서 받은 메시지(ORIGIN_HEADER 있음)는 다시 전달하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterBrokerInterceptor implements ChannelInterceptor {
+
+    static final String ORIGIN_HEADER = "clusterOrigin";
+
+    private final ClusterMessageBus bus;
+
+    static boolean isRelayed(String destination) {
+        return destination != null
+                && (destination.startsWith("/topic/chatroom/") || destination.startsWith("/topic/presence/"));
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (SimpMessageHeaderAccessor.getMessageType(headers) == SimpMessageType.MESSAGE
+                && isRelayed(destination)
+                && !headers.containsKey(ORIGIN_HEADER)
+                && message.getPayload() instanceof byte[] payload) {
+            // MimeType 또는 문자열 (메시지를 만든 쪽에 따라 다름)
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            bus.publish(destination, contentType == null ? null : contentType.toString(), payload);
+        }
+        return message;
+    }
+}
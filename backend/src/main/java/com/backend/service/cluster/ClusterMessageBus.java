@@ -0,0 +1,25 @@
+package com.backend.service.cluster;
+
+/**
+ * 노드 간 STOMP 메시지 전달 통로.
+ * - 각 노드는 자기 소켓에 구독자가 있는 destination(관심 목록)을 알림
+ * - publish 는 그 destination 에 관심 있는 다른 노드에만 전달
+ * - 구현: LocalClusterMessageBus(같은 JVM 안), TcpClusterMessageBus(노드 간 TCP)
+ */
+public interface ClusterMessageBus {
+
+    String nodeId();
+
+    // 이 노드에서 보낸 메시지를 관심 있는 다른 노드로 전달
+    void publish(String destination, String contentType, byte[] payload);
+
+    // 이 노드의 구독 관심 변경 (첫 구독자 생김 / 마지막 구독자 사라짐)
+    void interestChanged(String destination, boolean interested);
+
+    // 다른 노드에서 온 메시지를 받을 곳
+    void setListener(Listener listener);
+
+    interface Listener {
+        void deliver(String destination, String contentType, byte[] payload);
+    }
+}
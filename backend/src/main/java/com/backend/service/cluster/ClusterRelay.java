@@ -0,0 +1,107 @@
+package com.backend.service.cluster;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터 수신/관심 관리.
+ * - 이 노드의 STOMP 구독을 destination 별로 세어서 0 → 1, 1 → 0 일 때만 bus 에 관심 변경 알림
+ * - 다른 노드에서 온 메시지는 ORIGIN_HEADER 를 붙여 brokerChannel 로 보냄 (로컬 구독자에게만 전달)
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterRelay implements ClusterMessageBus.Listener {
+
+    private final ClusterMessageBus bus;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // sessionId → (subscriptionId → destination)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+    // destination → 로컬 구독 수
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        bus.setListener(this);
+    }
+
+    @Override
+    public void deliver(String destination, String contentType, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (contentType != null) {
+            accessor.setContentType(MimeType.valueOf(contentType));
+        }
+        accessor.setHeader(ClusterBrokerInterceptor.ORIGIN_HEADER, bus.nodeId());
+        accessor.setLeaveMutable(true);
+        MessageHeaders headers = accessor.getMessageHeaders();
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, headers));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (!ClusterBrokerInterceptor.isRelayed(destination)
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String previous = subscriptions.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        if (previous != null) {
+            release(previous);
+        }
+        counts.compute(destination, (d, count) -> {
+            if (count == null) {
+                bus.interestChanged(d, true);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> session = subscriptions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String destination = session.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            release(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> session = subscriptions.remove(event.getSessionId());
+        if (session != null) {
+            session.values().forEach(this::release);
+        }
+    }
+
+    private void release(String destination) {
+        counts.computeIfPresent(destination, (d, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            bus.interestChanged(d, false);
+            return null;
+        });
+    }
+}
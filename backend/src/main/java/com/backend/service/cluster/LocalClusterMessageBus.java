@@ -0,0 +1,65 @@
+package com.backend.service.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 같은 JVM 안의 노드(애플리케이션 컨텍스트)끼리 메시지 전달.
+ * - 노드가 하나면 아무 것도 전달하지 않음 (기본 단일 서버 구성)
+ * - 여러 컨텍스트를 띄우는 테스트에서 TCP 없이 클러스터 동작 확인용
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.mode", havingValue = "local", matchIfMissing = true)
+public class LocalClusterMessageBus implements ClusterMessageBus {
+
+    private static final List<LocalClusterMessageBus> NODES = new CopyOnWriteArrayList<>();
+
+    private final String nodeId;
+    private final Set<String> interests = ConcurrentHashMap.newKeySet();
+    private volatile Listener listener;
+
+    public LocalClusterMessageBus(@Value("${cluster.node-id:local}") String nodeId) {
+        this.nodeId = nodeId;
+        NODES.add(this);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String destination, String contentType, byte[] payload) {
+        for (LocalClusterMessageBus node : NODES) {
+            if (node != this && node.listener != null && node.interests.contains(destination)) {
+                node.listener.deliver(destination, contentType, payload);
+            }
+        }
+    }
+
+    @Override
+    public void interestChanged(String destination, boolean interested) {
+        if (interested) {
+            interests.add(destination);
+        } else {
+            interests.remove(destination);
+        }
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    @PreDestroy
+    public void stop() {
+        NODES.remove(this);
+    }
+}
@@ -0,0 +1,368 @@
+package com.backend.service.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 간 TCP 전달.
+ * - cluster.peers=nodeB@10.0.0.2:7400,nodeC@10.0.0.3:7400 (자기 자신은 빼고 나열)
+ * - 피어마다 나가는 연결 1개(보내기 전용) + 들어오는 연결 1개(받기 전용)
+ * - 연결되면 HELLO(노드 id, 공유 비밀, 현재 관심 목록 전체) → 이후 관심 추가/삭제, 메시지 프레임
+ * - 상대 노드의 관심 목록은 들어오는 연결로 받음 → 그 destination 메시지만 보냄
+ * - 연결이 끊기면 그 노드의 관심 목록은 버리고, 다시 연결되면 HELLO 로 새로 받음
+ * - 피어별 송신 큐가 가득 차면 메시지는 버림 (느린 노드가 발행 쪽을 막지 않도록)
+ * - 같은 PC 에서 포트만 바꿔 여러 JVM 을 띄워 확인 가능
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cluster.mode", havingValue = "tcp")
+public class TcpClusterMessageBus implements ClusterMessageBus {
+
+    private static final byte HELLO = 1;
+    private static final byte INTEREST_ADD = 2;
+    private static final byte INTEREST_REMOVE = 3;
+    private static final byte MESSAGE = 4;
+
+    private static final int MAX_PAYLOAD = 1024 * 1024;
+    private static final long RECONNECT_MILLIS = 2000;
+
+    private final String nodeId;
+    private final int port;
+    private final String peers;
+    private final String secret;
+    private final int queueCapacity;
+
+    private final Set<String> localInterests = ConcurrentHashMap.newKeySet();
+    // 노드 id → 그 노드에 구독자가 있는 destination
+    private final Map<String, Set<String>> remoteInterests = new ConcurrentHashMap<>();
+    // 노드 id → 나가는 연결
+    private final Map<String, PeerLink> links = new ConcurrentHashMap<>();
+
+    private final Counter sent;
+    private final Counter received;
+    private final Counter dropped;
+
+    private volatile Listener listener;
+    private volatile boolean running = true;
+    private ServerSocket serverSocket;
+
+    public TcpClusterMessageBus(MeterRegistry registry,
+                                @Value("${cluster.node-id}") String nodeId,
+                                @Value("${cluster.port:7400}") int port,
+                                @Value("${cluster.peers:}") String peers,
+                                @Value("${cluster.secret}") String secret,
+                                @Value("${cluster.queue-capacity:10000}") int queueCapacity) {
+        this.nodeId = nodeId;
+        this.port = port;
+        this.peers = peers;
+        this.secret = secret;
+        this.queueCapacity = queueCapacity;
+
+        this.sent = registry.counter("cluster.message.sent");
+        this.received = registry.counter("cluster.message.received");
+        this.dropped = registry.counter("cluster.message.dropped");
+        registry.gauge("cluster.peer.connected", links, l -> l.values().stream().filter(PeerLink::connected).count());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        for (String entry : peers.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            // nodeId@host:port
+            String[] idAndAddress = entry.trim().split("@", 2);
+            int colon = idAndAddress[1].lastIndexOf(':');
+            InetSocketAddress address = new InetSocketAddress(idAndAddress[1].substring(0, colon),
+                    Integer.parseInt(idAndAddress[1].substring(colon + 1)));
+            PeerLink link = new PeerLink(idAndAddress[0], address);
+            links.put(link.peerId, link);
+            link.start();
+        }
+
+        serverSocket = new ServerSocket(port);
+        Thread acceptor = new Thread(this::acceptLoop, "cluster-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("클러스터 노드 {} 시작: port={}, peers={}", nodeId, port, links.keySet());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        links.values().forEach(PeerLink::close);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String destination, String contentType, byte[] payload) {
+        byte[] frame = null;
+        for (PeerLink link : links.values()) {
+            Set<String> interests = remoteInterests.get(link.peerId);
+            if (interests == null || !interests.contains(destination)) {
+                continue;
+            }
+            if (frame == null) {
+                frame = encode(out -> {
+                    out.writeByte(MESSAGE);
+                    out.writeUTF(destination);
+                    out.writeUTF(contentType == null ? "" : contentType);
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                });
+            }
+            if (link.offer(frame)) {
+                sent.increment();
+            } else {
+                dropped.increment();
+            }
+        }
+    }
+
+    @Override
+    public void interestChanged(String destination, boolean interested) {
+        boolean changed = interested ? localInterests.add(destination) : localInterests.remove(destination);
+        if (!changed) {
+            return;
+        }
+        byte[] frame = encode(out -> {
+            out.writeByte(interested ? INTEREST_ADD : INTEREST_REMOVE);
+            out.writeUTF(destination);
+        });
+        links.values().forEach(link -> link.offer(frame));
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // ===== 받기 =====
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread reader = new Thread(() -> readLoop(socket), "cluster-in-" + socket.getRemoteSocketAddress());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("클러스터 연결 수락 실패", e);
+                }
+            }
+        }
+    }
+
+    private void readLoop(Socket socket) {
+        String peerId = null;
+        Set<String> interests = null;
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            if (in.readByte() != HELLO) {
+                log.warn("클러스터 연결 거부 (HELLO 없음): {}", socket.getRemoteSocketAddress());
+                return;
+            }
+            peerId = in.readUTF();
+            String peerSecret = in.readUTF();
+            if (!links.containsKey(peerId) || !MessageDigest.isEqual(
+                    secret.getBytes(StandardCharsets.UTF_8), peerSecret.getBytes(StandardCharsets.UTF_8))) {
+                log.warn("클러스터 연결 거부 (알 수 없는 노드 또는 비밀 불일치): {} {}", peerId, socket.getRemoteSocketAddress());
+                return;
+            }
+            interests = ConcurrentHashMap.newKeySet();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                interests.add(in.readUTF());
+            }
+            remoteInterests.put(peerId, interests);
+            log.info("클러스터 노드 {} 수신 연결 (관심 {}개)", peerId, count);
+
+            while (running) {
+                byte type = in.readByte();
+                switch (type) {
+                    case INTEREST_ADD -> interests.add(in.readUTF());
+                    case INTEREST_REMOVE -> interests.remove(in.readUTF());
+                    case MESSAGE -> {
+                        String destination = in.readUTF();
+                        String contentType = in.readUTF();
+                        int length = in.readInt();
+                        if (length < 0 || length > MAX_PAYLOAD) {
+                            throw new IOException("payload too large: " + length);
+                        }
+                        byte[] payload = new byte[length];
+                        in.readFully(payload);
+                        received.increment();
+                        Listener current = listener;
+                        if (current != null) {
+                            current.deliver(destination, contentType.isEmpty() ? null : contentType, payload);
+                        }
+                    }
+                    default -> throw new IOException("unknown frame type: " + type);
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                log.info("클러스터 노드 {} 수신 연결 종료: {}", peerId, e.getMessage());
+            }
+        } finally {
+            // 같은 노드가 이미 새로 연결했으면 그 관심 목록은 두고 감
+            if (peerId != null && interests != null) {
+                remoteInterests.remove(peerId, interests);
+            }
+        }
+    }
+
+    // ===== 보내기 =====
+
+    private byte[] helloFrame() {
+        return encode(out -> {
+            out.writeByte(HELLO);
+            out.writeUTF(nodeId);
+            out.writeUTF(secret);
+            Set<String> snapshot = Set.copyOf(localInterests);
+            out.writeInt(snapshot.size());
+            for (String destination : snapshot) {
+                out.writeUTF(destination);
+            }
+        });
+    }
+
+    private interface FrameWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(FrameWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 피어 하나로 나가는 연결. 전용 스레드가 (재)연결하고 큐의 프레임을 순서대로 씀.
+     */
+    private class PeerLink {
+
+        private final String peerId;
+        private final InetSocketAddress address;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private volatile Socket socket;
+        private Thread thread;
+
+        PeerLink(String peerId, InetSocketAddress address) {
+            this.peerId = peerId;
+            this.address = address;
+        }
+
+        void start() {
+            thread = new Thread(this::run, "cluster-out-" + peerId);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean connected() {
+            Socket current = socket;
+            return current != null && current.isConnected() && !current.isClosed();
+        }
+
+        boolean offer(byte[] frame) {
+            // 연결 전에 쌓인 프레임은 재연결 시 HELLO 로 대체되므로 연결 중일 때만 넣음
+            return connected() && queue.offer(frame);
+        }
+
+        private void run() {
+            while (running) {
+                try (Socket s = new Socket()) {
+                    s.setTcpNoDelay(true);
+                    s.connect(address, (int) RECONNECT_MILLIS);
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+                    queue.clear();
+                    socket = s;
+                    out.write(helloFrame());
+                    out.flush();
+                    log.info("클러스터 노드 {} 연결: {}", peerId, address);
+
+                    while (running) {
+                        byte[] frame = queue.poll(1, TimeUnit.SECONDS);
+                        if (frame == null) {
+                            continue;
+                        }
+                        out.write(frame);
+                        // 큐에 남은 것까지 한 번에 쓰고 flush
+                        while ((frame = queue.poll()) != null) {
+                            out.write(frame);
+                        }
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    if (running) {
+                        log.debug("클러스터 노드 {} 연결 실패/끊김: {}", peerId, e.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    socket = null;
+                }
+                sleepBeforeReconnect();
+            }
+        }
+
+        private void sleepBeforeReconnect() {
+            try {
+                Thread.sleep(RECONNECT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void close() {
+            if (thread != null) {
+                thread.interrupt();
+            }
+            Socket current = socket;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.backend.service.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 API의 ETag / Last-Modified 계산용 엔티티 버전 관리.
+ * - 쓰기 경로에서 touch() 로 버전을 올리고 (트랜잭션 커밋 이후 반영)
+ * - 조회 경로에서는 무거운 쿼리 전에 버전만 비교해서 304 응답
+ * - 서버 재시작 시 bootTime 이 바뀌므로 이전 ETag 는 모두 무효
+ * - 자주 바뀌지만 조금 늦게 보여도 되는 값(목록의 조회수)은 touchCoarse() 로 표시만 하고,
+ *   ETag 계산 때 coarse-interval 마다 한 번만 버전을 올림 (그 사이 목록 재검증은 304)
+ */
+@Service
+public class EntityVersionService {
+
+    // 목록 / 전역 키
+    public static final String BOARD_LIST = "board:list";
+    public static final String NICKNAMES = "member:nicknames"; // 게시글/댓글 응답에 섞여 나가는 닉네임 (닉네임 변경, 탈퇴 때만)
+    public static final String BOARD_VIEWS = "board:views"; // 목록에 나가는 조회수 (touchCoarse 로만)
+
+    private final long bootTime = System.currentTimeMillis();
+    private final ConcurrentHashMap<String, Stamp> stamps = new ConcurrentHashMap<>();
+    // touchCoarse 로 표시됐지만 아직 버전을 올리지 않은 키
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final long coarseIntervalMillis;
+
+    public EntityVersionService(@Value("${etag.coarse-interval-seconds:60}") long coarseIntervalSeconds) {
+        this.coarseIntervalMillis = coarseIntervalSeconds * 1000;
+    }
+
+    public record Stamp(long version, long lastModified) {
+    }
+
+    public static String board(Integer id) {
+        return "board:" + id;
+    }
+
+    public static String diaryBoard(Integer id) {
+        return "diaryBoard:" + id;
+    }
+
+    public static String member(Integer id) {
+        return "member:" + id;
+    }
+
+    public static String diaryProfile(Integer ownerId) {
+        return "diaryProfile:" + ownerId;
+    }
+
+    public void touch(String... keys) {
+        afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            for (String key : keys) {
+                bump(key, now);
+            }
+        });
+    }
+
+    // 변경 표시만 (버전은 validator 계산 때 coarse-interval 이 지났으면 올림)
+    public void touchCoarse(String key) {
+        afterCommit(() -> dirty.add(key));
+    }
+
+    private void bump(String key, long now) {
+        stamps.merge(key, new Stamp(1, now),
+                (old, ignored) -> new Stamp(old.version() + 1, Math.max(now, old.lastModified())));
+    }
+
+    // 커밋 전에 버전을 올리면 커밋 전 데이터가 새 ETag 로 캐시될 수 있으므로 커밋 이후에 반영
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 를 검사하고, 변경이 없으면 304 를 세팅한 뒤 true 반환.
+     * 변경이 있으면 ETag / Last-Modified 헤더만 세팅하고 false 반환.
+     */
+    public boolean checkNotModified(WebRequest request, String... keys) {
+        Validator validator = validator(keys);
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            // 브라우저가 휴리스틱 캐시로 재검증 없이 쓰지 않도록
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return request.checkNotModified(validator.etag(), validator.lastModified());
+    }
+
+    /**
+     * 조회 처리 중에 버전이 바뀐 경우(조회수 증가 등) 현재 버전으로 ETag / Last-Modified 를 다시 세팅.
+     * checkNotModified 가 먼저 세팅한 값은 응답 본문보다 오래된 버전이라 덮어씀.
+     */
+    public void refreshValidators(WebRequest request, String... keys) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            Validator validator = validator(keys);
+            servletRequest.getResponse().setHeader(HttpHeaders.ETAG, validator.etag());
+            servletRequest.getResponse().setDateHeader(HttpHeaders.LAST_MODIFIED, validator.lastModified());
+        }
+    }
+
+    private record Validator(String etag, long lastModified) {
+    }
+
+    private Validator validator(String... keys) {
+        StringBuilder etag = new StringBuilder("\"").append(Long.toString(bootTime, 36));
+        long lastModified = bootTime;
+        long now = System.currentTimeMillis();
+        for (String key : keys) {
+            Stamp stamp = stamps.get(key);
+            if (dirty.contains(key) && (stamp == null || now - stamp.lastModified() >= coarseIntervalMillis)
+                    && dirty.remove(key)) {
+                bump(key, now);
+                stamp = stamps.get(key);
+            }
+            long version = stamp == null ? 0 : stamp.version();
+            etag.append('-').append(version);
+            if (stamp != null) {
+                lastModified = Math.max(lastModified, stamp.lastModified());
+            }
+        }
+        etag.append('"');
+        return new Validator(etag.toString(), lastModified);
+    }
+}
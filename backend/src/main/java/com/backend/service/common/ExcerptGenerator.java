@@ -0,0 +1,37 @@
+package com.backend.service.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * 목록 화면용 본문 요약(excerpt) 생성.
+ * 글 작성/수정 시 한 번만 계산해서 excerpt 컬럼에 저장하고, 목록 쿼리는 본문 대신 이 컬럼만 읽음.
+ */
+@Component
+public class ExcerptGenerator {
+
+    // excerpt 컬럼 크기 (VARCHAR(500))
+    private static final int MAX_LENGTH = 500;
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int length;
+
+    public ExcerptGenerator(@Value("${content.excerpt-length:200}") int length) {
+        this.length = Math.max(1, Math.min(length, MAX_LENGTH - 1));
+    }
+
+    public String of(String content) {
+        if (content == null) {
+            return null;
+        }
+        String text = WHITESPACE.matcher(TAG.matcher(content).replaceAll(" ")).replaceAll(" ").trim();
+        if (text.codePointCount(0, text.length()) <= length) {
+            return text;
+        }
+        // 서로게이트 쌍(이모지)이 잘리지 않도록 code point 기준으로 자름
+        return text.substring(0, text.offsetByCodePoints(0, length)) + "…";
+    }
+}
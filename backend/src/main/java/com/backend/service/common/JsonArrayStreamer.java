@@ -0,0 +1,30 @@
+package com.backend.service.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 큰 목록을 List 로 모으지 않고, 행이 나오는 대로 JSON 배열로 바로 쓰기.
+ * MyBatis Cursor 와 함께 쓰며, 호출하는 쪽 트랜잭션 안에서 실행되어야 함.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamer {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> void writeArray(Iterable<T> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (T row : rows) {
+                generator.writeObject(row);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.backend.service.common;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 API 의 fields= 파라미터 처리.
+ * - @JsonFilter(SparseFields.FILTER_ID) 가 붙은 목록 항목에만 적용 (페이지 정보 등 바깥 구조는 그대로)
+ * - fields 가 없으면 전체 필드 직렬화
+ */
+public final class SparseFields {
+
+    public static final String FILTER_ID = "sparseFields";
+
+    // fields 파라미터가 없을 때 사용하는 기본 필터 (JacksonConfiguration 에서 등록)
+    public static final SimpleFilterProvider DEFAULT_FILTERS = new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private SparseFields() {
+    }
+
+    public static Object apply(Object body, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        return value;
+    }
+}
@@ -0,0 +1,108 @@
+package com.backend.service.diary;
+
+import com.backend.domain.diary.Diary;
+import com.backend.mapper.diary.DiaryMapper;
+import com.backend.service.friends.FriendGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다이어리 접근 판단용 캐시.
+ * - 다이어리별로 주인 id, 공개 범위를 보관하고 친구 여부는 FriendGraph 로 판단 → (조회자, 다이어리) 판단은 쿼리 없이 계산
+ * - TTL + LRU 로 크기 제한 (친구 관계 변경은 FriendGraph 에 바로 반영되고 tcp 에서는 DB 조회이므로 무효화 불필요)
+ * - 무효화와 동시에 진행 중이던 로딩 결과는 캐시에 넣지 않음 (stamp 확인과 put 을 무효화와 같은 락 안에서)
+ */
+@Component
+public class DiaryAccessCache {
+
+    private final DiaryMapper diaryMapper;
+    private final FriendGraph friendGraph;
+    private final long ttlMillis;
+    private final Map<Integer, Entry> diaries;
+    private final AtomicLong stamp = new AtomicLong();
+
+    public DiaryAccessCache(DiaryMapper diaryMapper,
+                            FriendGraph friendGraph,
+                            @Value("${diary.access.cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${diary.access.cache.max-diaries:2000}") int maxDiaries) {
+        this.diaryMapper = diaryMapper;
+        this.friendGraph = friendGraph;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.diaries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > maxDiaries;
+            }
+        });
+    }
+
+    // 다이어리 주인 id (다이어리가 없으면 null)
+    public Integer ownerId(Integer diaryId) {
+        Entry entry = get(diaryId);
+        return entry == null ? null : entry.ownerId();
+    }
+
+    // viewerId 는 비로그인이면 null
+    public boolean canAccess(Integer diaryId, Integer viewerId) {
+        Entry entry = get(diaryId);
+        if (entry == null) {
+            return false;
+        }
+        boolean isOwner = viewerId != null && viewerId.equals(entry.ownerId());
+        boolean isFriend = !isOwner && viewerId != null
+                && "FRIENDS".equalsIgnoreCase(entry.visibility())
+                && friendGraph.areFriends(viewerId, entry.ownerId());
+
+        return isOwner
+                || "PUBLIC".equalsIgnoreCase(entry.visibility())
+                || ("FRIENDS".equalsIgnoreCase(entry.visibility()) && isFriend);
+    }
+
+    // 다이어리 공개 범위 변경 시
+    public void evictDiary(Integer diaryId) {
+        synchronized (diaries) {
+            stamp.incrementAndGet();
+            diaries.remove(diaryId);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (diaries) {
+            stamp.incrementAndGet();
+            diaries.clear();
+        }
+    }
+
+    private Entry get(Integer diaryId) {
+        if (diaryId == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry cached = diaries.get(diaryId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+
+        long before = stamp.get();
+        Diary diary = diaryMapper.selectById(diaryId);
+        if (diary == null) {
+            diaries.remove(diaryId);
+            return null;
+        }
+        Entry loaded = new Entry(diary.getMemberId(), diary.getVisibility(), now + ttlMillis);
+        synchronized (diaries) {
+            if (stamp.get() == before) {
+                diaries.put(diaryId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private record Entry(Integer ownerId, String visibility, long expiresAt) {
+    }
+}
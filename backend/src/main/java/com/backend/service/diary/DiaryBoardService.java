@@ -1,10 +1,14 @@
 package com.backend.service.diary;
 
+import com.backend.domain.common.PageInfo;
 import com.backend.domain.diary.DiaryBoard;
+import com.backend.domain.diary.DiaryBoardPage;
 import com.backend.domain.diary.MoodStat;
 import com.backend.mapper.diary.DiaryBoardMapper;
 import com.backend.mapper.member.MemberMapper;
 import com.backend.security.CustomUserDetails;
+import com.backend.service.common.EntityVersionService;
+import com.backend.service.common.ExcerptGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,9 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 // import java.util.List;
 // import java.util.stream.Collectors;
 
@@ -31,6 +33,8 @@ public class DiaryBoardService {
 
     private final DiaryBoardMapper mapper;
     private final MemberMapper memberMapper;
+    private final EntityVersionService versionService;
+    private final ExcerptGenerator excerptGenerator;
 
 
     public void add(DiaryBoard diaryBoard, Authentication authentication) {
@@ -49,6 +53,7 @@ public class DiaryBoardService {
             }
             diaryBoard.setInserted(LocalDateTime.now()); // 시간까지 포함
             diaryBoard.setInsertedDate(today);           // 날짜만 (하루 1개 제약용)
+            diaryBoard.setExcerpt(excerptGenerator.of(diaryBoard.getContent()));
             mapper.insert(diaryBoard);
         } else {
             throw new UsernameNotFoundException("인증된 사용자 정보를 찾을 수 없습니다.");
@@ -76,6 +81,7 @@ public class DiaryBoardService {
             diaryBoard.setInserted(LocalDateTime.now());
             diaryBoard.setInsertedDate(today);
 //            log.info("insertedDate={}", diaryBoard.getInsertedDate());
+            diaryBoard.setExcerpt(excerptGenerator.of(diaryBoard.getContent()));
             mapper.insert(diaryBoard);
 
             // 파일 저장 로직 필요 시 추가
@@ -89,32 +95,31 @@ public class DiaryBoardService {
                 && diaryBoard.getContent() != null && !diaryBoard.getContent().isBlank();
     }
 
-    public Map<String, Object> list(Integer page, String searchType, String keyword, Integer memberId, Integer diaryId) {
-        Map<String, Object> pageInfo = new HashMap<>();
-        Integer countAll = mapper.countAllWithSearch(searchType, keyword, memberId, diaryId);
-        Integer offset = (page - 1) * 10;
-        Integer lastPageNumber = (countAll - 1) / 10 + 1;
-        Integer leftPageNumber = (page - 1) / 10 * 10 + 1;
-        Integer rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
+    public DiaryBoardPage list(Integer page, String searchType, String keyword, Integer memberId, Integer diaryId) {
+        int countAll = mapper.countAllWithSearch(searchType, keyword, memberId, diaryId);
+        int offset = (page - 1) * 10;
+        int lastPageNumber = (countAll - 1) / 10 + 1;
+        int leftPageNumber = (page - 1) / 10 * 10 + 1;
+        int rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
         leftPageNumber = Math.max(rightPageNumber - 9, 1);
-        Integer prevPageNumber = leftPageNumber - 1;
-        Integer nextPageNumber = rightPageNumber + 1;
-        if (prevPageNumber > 0) pageInfo.put("prevPageNumber", prevPageNumber);
-        if (nextPageNumber <= lastPageNumber) pageInfo.put("nextPageNumber", nextPageNumber);
-        pageInfo.put("currentPageNumber", page);
-        pageInfo.put("lastPageNumber", lastPageNumber);
-        pageInfo.put("leftPageNumber", leftPageNumber);
-        pageInfo.put("rightPageNumber", rightPageNumber);
-        return Map.of("pageInfo", pageInfo,
-                "diaryBoardList", mapper.selectAllPaging(offset, searchType, keyword, memberId, diaryId));
+        int prevPageNumber = leftPageNumber - 1;
+        int nextPageNumber = rightPageNumber + 1;
+        PageInfo pageInfo = new PageInfo(page,
+                prevPageNumber > 0 ? prevPageNumber : null,
+                nextPageNumber <= lastPageNumber ? nextPageNumber : null,
+                lastPageNumber, leftPageNumber, rightPageNumber, null);
+        return new DiaryBoardPage(pageInfo, mapper.selectAllPaging(offset, searchType, keyword, memberId, diaryId));
     }
 
     public void remove(Integer id) {
         mapper.deleteById(id);
+        versionService.touch(EntityVersionService.diaryBoard(id));
     }
 
     public void edit(DiaryBoard diaryBoard) throws IOException {
+        diaryBoard.setExcerpt(excerptGenerator.of(diaryBoard.getContent()));
         mapper.update(diaryBoard);
+        versionService.touch(EntityVersionService.diaryBoard(diaryBoard.getId()));
     }
 
     public boolean hasAccess(Integer id, Authentication authentication, Integer memberId) {
@@ -1,36 +1,39 @@
 package com.backend.service.diary;
 
 import com.backend.domain.diary.DiaryComment;
-import com.backend.domain.member.Member;
+import com.backend.domain.diary.DiaryCommentPage;
+import com.backend.domain.member.MemberIdentity;
 import com.backend.mapper.diary.DiaryCommentMapper;
-import com.backend.mapper.member.MemberMapper;
-import com.backend.service.friends.FriendsService;
+import com.backend.security.CustomUserDetails;
+import com.backend.service.common.JsonArrayStreamer;
+import com.backend.service.member.MemberCache;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(rollbackFor = Exception.class)
 public class DiaryCommentService {
     final DiaryCommentMapper mapper;
-    private final MemberMapper memberMapper;
-    private final DiaryService diaryService;
-    private final FriendsService friendsService;
+    private final MemberCache memberCache;
+    private final DiaryAccessCache accessCache;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     // ... (add, list, delete, edit, get, validate 메서드는 기존 유지) ...
     public DiaryComment add(DiaryComment diaryComment, Authentication authentication) {
-        Member member = memberMapper.selectByUsername(authentication.getName());
-        if (member == null) {
+        Integer memberId = currentMemberId(authentication);
+        if (memberId == null) {
             throw new UsernameNotFoundException("로그인한 사용자를 찾을 수 없습니다.");
         }
-        diaryComment.setMemberId(member.getId());
+        diaryComment.setMemberId(memberId);
         if (diaryComment.getReplyCommentId() != null) {
             DiaryComment parent = mapper.selectById(diaryComment.getReplyCommentId());
             if (parent == null) {
@@ -44,21 +47,13 @@ public class DiaryCommentService {
         return mapper.selectById(diaryComment.getId());
     }
 
-    public Map<String, Object> list(Integer diaryId, int page, int pageSize, String type, String keyword) {
+    public DiaryCommentPage list(Integer diaryId, int page, int pageSize, String type, String keyword) {
         int totalComments = mapper.countParentCommentsByDiaryIdAndSearch(diaryId, type, keyword);
         int totalPages = (int) Math.ceil((double) totalComments / pageSize);
         int offset = (page - 1) * pageSize;
+        // 대댓글 수는 목록 쿼리에서 함께 집계됨 (count + 목록, 쿼리 2번)
         List<DiaryComment> comments = mapper.selectParentCommentsBySearch(diaryId, type, keyword, pageSize, offset);
-        for (DiaryComment comment : comments) {
-            int replyCount = mapper.countReplies(comment.getId());
-            comment.setReplyCount(replyCount);
-            comment.setReplies(null);
-        }
-        Map<String, Object> result = new HashMap<>();
-        result.put("comments", comments);
-        result.put("totalPages", totalPages);
-        result.put("currentPage", page);
-        return result;
+        return new DiaryCommentPage(comments, totalPages, page);
     }
 
     public void diaryDelete(Integer commentId) {
@@ -80,9 +75,9 @@ public class DiaryCommentService {
 
     // ⚡️ [핵심 수정 1] 댓글 수정/삭제 권한 확인 (403 해결)
     public boolean hasAccess(Integer commentId, Authentication authentication) {
-        // 현재 로그인한 사용자 정보
-        Member currentUser = memberMapper.selectByUsername(authentication.getName());
-        if (currentUser == null) {
+        // 현재 로그인한 사용자 id (JWT principal)
+        Integer currentUserId = currentMemberId(authentication);
+        if (currentUserId == null) {
             throw new UsernameNotFoundException("로그인한 사용자를 찾을 수 없습니다.");
         }
 
@@ -92,17 +87,11 @@ public class DiaryCommentService {
             return false;
         }
 
-        // ⚡️ [수정 포인트] 모든 ID를 Long으로 변환하여 안전하게 비교
-        // (DB가 Long이고 Java가 Integer일 때 equals가 false 뜨는 것 방지)
-        Long currentUserId = Long.valueOf(currentUser.getId());
-        Long commentOwnerId = Long.valueOf(diaryComment.getMemberId());
-
-        // 다이어리 주인 ID도 Long으로 변환
-        Integer diaryOwnerIdInt = mapper.findDiaryOwnerIdByDiaryId(diaryComment.getDiaryId());
-        Long diaryOwnerId = (diaryOwnerIdInt != null) ? Long.valueOf(diaryOwnerIdInt) : null;
+        // 다이어리 주인 ID는 접근 캐시에서 (쿼리 없음)
+        Integer diaryOwnerId = accessCache.ownerId(diaryComment.getDiaryId());
 
         // 작성자 본인 또는 다이어리 주인이면 true
-        return currentUserId.equals(commentOwnerId) || currentUserId.equals(diaryOwnerId);
+        return currentUserId.equals(diaryComment.getMemberId()) || currentUserId.equals(diaryOwnerId);
     }
 
     public List<DiaryComment> getRecentComments(Integer diaryId, int limit) {
@@ -117,36 +106,29 @@ public class DiaryCommentService {
         return mapper.selectAllByDiaryId(diaryId);
     }
 
+    // ✅ 전체 댓글을 List 로 모으지 않고 Cursor 에서 바로 응답으로 스트리밍
+    @Transactional(readOnly = true)
+    public void streamAllByDiaryId(Integer diaryId, OutputStream out) throws IOException {
+        try (Cursor<DiaryComment> cursor = mapper.cursorAllByDiaryId(diaryId)) {
+            jsonArrayStreamer.writeArray(cursor, out);
+        }
+    }
+
     // ⚡️ [핵심 수정 2] 다이어리 접근 권한 (비공개/친구공개 로직)
+    // ✅ 주인/공개 범위/친구 집합은 DiaryAccessCache 에서, 조회자 id 는 JWT principal 에서 → 보통 쿼리 0번
     public boolean canAccessDiary(Integer diaryId, Authentication authentication) {
-        var diary = diaryService.getDiaryById(diaryId);
-        if (diary == null) return false;
-
-        Integer userId = null;
-        Long currentUserId = null; // Long 타입 변수 추가
+        return accessCache.canAccess(diaryId, currentMemberId(authentication));
+    }
 
-        if (authentication != null) {
-            Member currentUser = memberMapper.selectByUsername(authentication.getName());
-            if (currentUser != null) {
-                userId = currentUser.getId();
-                currentUserId = Long.valueOf(userId); // Long으로 변환
-            }
+    // JWT 필터가 넣어준 principal 의 id 사용, 없을 때만(OAuth2 세션 등) username 으로 조회
+    private Integer currentMemberId(Authentication authentication) {
+        if (authentication == null) {
+            return null;
         }
-
-        // ⚡️ [수정 포인트] 여기서도 Long 타입으로 변환해서 비교해야 안전함
-        // diary.getMemberId()가 Long일 가능성이 큼
-        Long diaryOwnerId = Long.valueOf(diary.getMemberId());
-
-        boolean isOwner = (currentUserId != null && currentUserId.equals(diaryOwnerId));
-
-        // 친구 체크 로직도 안전하게 (userId는 Integer 그대로 쓰는게 맞는지, Long인지 friendsService 확인 필요하지만, 보통 Integer로 넘김)
-        boolean isFriend = (!isOwner && userId != null)
-                && friendsService.checkFriendship(userId, diary.getMemberId());
-
-        String visibility = diary.getVisibility();
-
-        return isOwner
-                || "PUBLIC".equalsIgnoreCase(visibility)
-                || ("FRIENDS".equalsIgnoreCase(visibility) && isFriend);
+        if (authentication.getPrincipal() instanceof CustomUserDetails user && user.getId() != null) {
+            return user.getId();
+        }
+        MemberIdentity member = memberCache.byUsername(authentication.getName());
+        return member == null ? null : member.getId();
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.backend.service.diary;
 
 import com.backend.domain.diary.DiaryProfile;
 import com.backend.mapper.diary.DiaryProfileMapper;
+import com.backend.service.common.EntityVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,13 +11,16 @@ import org.springframework.stereotype.Service;
 public class DiaryProfileService {
 
 	private final DiaryProfileMapper diaryProfileMapper;
+	private final EntityVersionService versionService;
 
 	public void updateProfile(Integer memberId, String statusMessage, String introduction) {
 		diaryProfileMapper.updateProfile(memberId, statusMessage, introduction);
+		versionService.touch(EntityVersionService.diaryProfile(memberId));
 	}
 
 	public void createProfile(Integer memberId, String statusMessage, String introduction) {
 		diaryProfileMapper.insertProfile(memberId, statusMessage, introduction);
+		versionService.touch(EntityVersionService.diaryProfile(memberId));
 	}
 
 	public DiaryProfile getProfileByMemberId(Integer memberId) {
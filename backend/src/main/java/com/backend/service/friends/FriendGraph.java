@@ -0,0 +1,187 @@
+package com.backend.service.friends;
+
+import com.backend.domain.friends.FriendEdge;
+import com.backend.mapper.friends.FriendsMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 메모리 친구 그래프.
+ * - 회원 id 를 인덱스로 하는 int[][] (회원별 정렬된 친구 id 배열), Integer 박싱 없음
+ * - friends 테이블과 같은 방향 그래프: member_id → friend_id 행 하나가 간선 하나
+ * - 읽기는 락 없이, 쓰기는 해당 회원 배열만 새로 만들어 교체 (copy-on-write) 후 volatile 재할당으로 공개
+ * - 시작 시 전체 적재가 끝나기 전에는 DB 로 조회
+ * - 노드 로컬: 클러스터에서 다른 노드가 추가/삭제한 친구 관계는 이 노드가 다시 시작할 때까지 반영 안 됨
+ *   → cluster.mode=tcp 면 친구 여부(areFriends, 다이어리 접근/일괄 확인)는 항상 DB 조회, 그래프는 추천 계산에만 사용
+ */
+@Component
+public class FriendGraph {
+
+	private static final Logger logger = LoggerFactory.getLogger(FriendGraph.class);
+	private static final int[] EMPTY = new int[0];
+
+	private final FriendsMapper friendsMapper;
+	private final boolean nodeLocal; // 다른 노드의 변경이 안 보임 (tcp)
+
+	private volatile int[][] adjacency = new int[0][];
+	private volatile boolean loaded;
+
+	public FriendGraph(FriendsMapper friendsMapper,
+					   @Value("${cluster.mode:local}") String clusterMode) {
+		this.friendsMapper = friendsMapper;
+		this.nodeLocal = !"local".equals(clusterMode);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void load() {
+		long start = System.currentTimeMillis();
+		Loader loader = new Loader();
+		try {
+			// member_id, friend_id 순으로 정렬된 결과를 스트리밍으로 받아 회원별 배열을 바로 만듦
+			friendsMapper.scanEdges(context -> loader.accept(context.getResultObject()));
+		} catch (Exception e) {
+			// 적재 실패 시 DB 조회로 계속 동작
+			logger.warn("Friend graph load failed, falling back to DB lookups", e);
+			return;
+		}
+		adjacency = loader.finish();
+		loaded = true;
+		logger.info("Friend graph loaded: {} edges in {}ms", loader.edges, System.currentTimeMillis() - start);
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	// 친구 여부를 이 그래프로 판단해도 되는지 (적재 완료 + 단일 노드)
+	public boolean isAuthoritative() {
+		return loaded && !nodeLocal;
+	}
+
+	// memberId 가 friendId 를 친구로 등록했는지 (O(log n))
+	public boolean areFriends(int memberId, int friendId) {
+		if (!isAuthoritative()) {
+			return friendsMapper.checkFriendship(memberId, friendId) > 0;
+		}
+		return Arrays.binarySearch(row(memberId), friendId) >= 0;
+	}
+
+	// 정렬된 친구 id 배열 (공유 배열이므로 수정 금지)
+	public int[] friendsOf(int memberId) {
+		return row(memberId);
+	}
+
+	public int friendCount(int memberId) {
+		return row(memberId).length;
+	}
+
+	// 공통 친구 수: 두 정렬 배열 병합 (O(n + m))
+	public int mutualCount(int a, int b) {
+		int[] x = row(a);
+		int[] y = row(b);
+		int i = 0, j = 0, count = 0;
+		while (i < x.length && j < y.length) {
+			if (x[i] < y[j]) {
+				i++;
+			} else if (x[i] > y[j]) {
+				j++;
+			} else {
+				count++;
+				i++;
+				j++;
+			}
+		}
+		return count;
+	}
+
+	public synchronized void add(int memberId, int friendId) {
+		int[] current = row(memberId);
+		int pos = Arrays.binarySearch(current, friendId);
+		if (pos >= 0) {
+			return;
+		}
+		int insertAt = -pos - 1;
+		int[] next = new int[current.length + 1];
+		System.arraycopy(current, 0, next, 0, insertAt);
+		next[insertAt] = friendId;
+		System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+		publish(memberId, next);
+	}
+
+	public synchronized void remove(int memberId, int friendId) {
+		int[] current = row(memberId);
+		int pos = Arrays.binarySearch(current, friendId);
+		if (pos < 0) {
+			return;
+		}
+		int[] next = current.length == 1 ? EMPTY : new int[current.length - 1];
+		System.arraycopy(current, 0, next, 0, pos);
+		System.arraycopy(current, pos + 1, next, pos, current.length - pos - 1);
+		publish(memberId, next);
+	}
+
+	private int[] row(int memberId) {
+		int[][] adj = adjacency;
+		if (memberId < 0 || memberId >= adj.length || adj[memberId] == null) {
+			return EMPTY;
+		}
+		return adj[memberId];
+	}
+
+	// 호출은 synchronized 안에서만
+	private void publish(int memberId, int[] next) {
+		int[][] adj = adjacency;
+		if (memberId >= adj.length) {
+			adj = Arrays.copyOf(adj, Math.max(memberId + 1, adj.length + (adj.length >> 1)));
+		}
+		adj[memberId] = next;
+		adjacency = adj; // volatile 쓰기로 읽는 쪽에 공개
+	}
+
+	// 정렬된 간선 스트림 → int[][]
+	private static class Loader {
+		private int[][] rows = new int[1024][];
+		private int currentMember = -1;
+		private int[] buffer = new int[16];
+		private int size;
+		private long edges;
+
+		void accept(FriendEdge edge) {
+			if (edge.getMemberId() != currentMember) {
+				flush();
+				currentMember = edge.getMemberId();
+			}
+			// 중복 간선은 건너뜀 (정렬되어 있으므로 직전 값과만 비교)
+			if (size > 0 && buffer[size - 1] == edge.getFriendId()) {
+				return;
+			}
+			if (size == buffer.length) {
+				buffer = Arrays.copyOf(buffer, size * 2);
+			}
+			buffer[size++] = edge.getFriendId();
+			edges++;
+		}
+
+		int[][] finish() {
+			flush();
+			return rows;
+		}
+
+		private void flush() {
+			if (currentMember < 0 || size == 0) {
+				return;
+			}
+			if (currentMember >= rows.length) {
+				rows = Arrays.copyOf(rows, Math.max(currentMember + 1, rows.length * 2));
+			}
+			rows[currentMember] = Arrays.copyOf(buffer, size);
+			size = 0;
+		}
+	}
+}
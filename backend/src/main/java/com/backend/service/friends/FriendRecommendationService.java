@@ -0,0 +1,187 @@
+package com.backend.service.friends;
+
+import com.backend.domain.friends.FriendRecommendation;
+import com.backend.domain.member.Member;
+import com.backend.mapper.friends.FriendsMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알 수도 있는 사람 추천 (친구의 친구, 공통 친구 수 순).
+ * - FriendGraph 의 정렬된 배열만 사용, 요청 시 friends 테이블 self-join 없음
+ * - 계산은 크기가 제한된 전용 스레드 풀에서 수행 (큐가 차면 RejectedExecutionException)
+ * - 회원별 결과 캐시, 친구 관계 변경 시 두 회원과 그 친구들의 캐시 무효화
+ * - 그래프 적재 전(또는 적재 실패)에 계산한 결과는 캐시하지 않음 (빈 그래프 기준 결과라서)
+ */
+@Service
+public class FriendRecommendationService {
+
+	// 회원별로 계산/캐시해 두는 최대 추천 수
+	private static final int MAX_RESULTS = 50;
+
+	private final FriendGraph friendGraph;
+	private final FriendsMapper friendsMapper;
+	private final ThreadPoolExecutor executor;
+	private final Map<Integer, List<FriendRecommendation>> cache;
+	private final AtomicLong stamp = new AtomicLong();
+
+	@Value("${friends.recommend.max-scan:200000}")
+	private int maxScan;
+
+	@Value("${friends.recommend.timeout-ms:2000}")
+	private long timeoutMs;
+
+	public FriendRecommendationService(FriendGraph friendGraph,
+									   FriendsMapper friendsMapper,
+									   @Value("${friends.recommend.threads:2}") int threads,
+									   @Value("${friends.recommend.queue:100}") int queueSize,
+									   @Value("${friends.recommend.cache.max-members:5000}") int maxMembers) {
+		this.friendGraph = friendGraph;
+		this.friendsMapper = friendsMapper;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize),
+				runnable -> {
+					Thread thread = new Thread(runnable, "friend-recommend");
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, List<FriendRecommendation>> eldest) {
+				return size() > maxMembers;
+			}
+		});
+	}
+
+	public List<FriendRecommendation> recommend(Integer memberId, int limit)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		int size = Math.max(1, Math.min(limit, MAX_RESULTS));
+		List<FriendRecommendation> cached = cache.get(memberId);
+		if (cached != null) {
+			return cached.subList(0, Math.min(size, cached.size()));
+		}
+
+		long before = stamp.get();
+		boolean loaded = friendGraph.isLoaded(); // 계산 도중 적재가 끝나도 이 결과는 캐시 안 함
+		Future<long[]> future = executor.submit(() -> rank(memberId));
+		long[] ranked;
+		try {
+			ranked = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw e;
+		}
+
+		List<FriendRecommendation> result = withNicknames(ranked);
+		if (loaded && stamp.get() == before) {
+			cache.put(memberId, result);
+		}
+		return result.subList(0, Math.min(size, result.size()));
+	}
+
+	// 간선 a → b 가 바뀌면 a, b 와 각자의 친구들의 추천 결과가 달라짐
+	public void invalidate(int a, int b) {
+		stamp.incrementAndGet();
+		cache.remove(a);
+		cache.remove(b);
+		for (int friendId : friendGraph.friendsOf(a)) {
+			cache.remove(friendId);
+		}
+		for (int friendId : friendGraph.friendsOf(b)) {
+			cache.remove(friendId);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 친구들의 친구 id 를 한 배열에 모아 정렬 → 같은 값 구간 길이가 공통 친구 수.
+	 * 결과는 (공통 친구 수 << 32 | 회원 id) 를 내림차순으로 담은 long 배열 (박싱 없음)
+	 */
+	private long[] rank(int memberId) {
+		int[] friends = friendGraph.friendsOf(memberId);
+		int total = 0;
+		for (int friendId : friends) {
+			total += friendGraph.friendCount(friendId);
+		}
+		int[] candidates = new int[Math.min(total, maxScan)];
+		int n = 0;
+		for (int friendId : friends) {
+			int[] row = friendGraph.friendsOf(friendId);
+			int take = Math.min(row.length, candidates.length - n);
+			System.arraycopy(row, 0, candidates, n, take);
+			n += take;
+			if (n == candidates.length) {
+				break; // 친구가 아주 많은 경우 스캔 상한
+			}
+		}
+		Arrays.sort(candidates, 0, n);
+
+		long[] scored = new long[n];
+		int m = 0;
+		for (int i = 0; i < n; ) {
+			int id = candidates[i];
+			int j = i;
+			while (j < n && candidates[j] == id) {
+				j++;
+			}
+			// 자기 자신, 이미 친구인 회원 제외
+			if (id != memberId && Arrays.binarySearch(friends, id) < 0) {
+				scored[m++] = ((long) (j - i) << 32) | id;
+			}
+			i = j;
+		}
+		Arrays.sort(scored, 0, m);
+
+		int size = Math.min(m, MAX_RESULTS);
+		long[] top = new long[size];
+		for (int k = 0; k < size; k++) {
+			top[k] = scored[m - 1 - k];
+		}
+		return top;
+	}
+
+	// 닉네임은 IN 쿼리 한 번으로
+	private List<FriendRecommendation> withNicknames(long[] ranked) {
+		if (ranked.length == 0) {
+			return List.of();
+		}
+		List<Integer> ids = new ArrayList<>(ranked.length);
+		for (long value : ranked) {
+			ids.add((int) value);
+		}
+		Map<Integer, String> nicknames = new HashMap<>();
+		for (Member member : friendsMapper.selectMembersByIds(ids)) {
+			nicknames.put(member.getId(), member.getNickname());
+		}
+
+		List<FriendRecommendation> result = new ArrayList<>(ranked.length);
+		for (long value : ranked) {
+			int id = (int) value;
+			String nickname = nicknames.get(id);
+			if (nickname != null) { // 그 사이 탈퇴한 회원 제외
+				result.add(new FriendRecommendation(id, nickname, (int) (value >>> 32)));
+			}
+		}
+		return List.copyOf(result);
+	}
+}
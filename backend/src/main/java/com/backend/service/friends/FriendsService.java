@@ -4,25 +4,41 @@ import com.backend.domain.friends.FriendDto;
 import com.backend.domain.friends.FriendRequest;
 import com.backend.domain.member.Member;
 import com.backend.mapper.friends.FriendsMapper;
+import com.backend.service.member.PresenceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class FriendsService {
 
 	private final FriendsMapper friendsMapper;
+	private final FriendGraph friendGraph;
+	private final FriendRecommendationService recommendationService;
+	private final PresenceService presenceService;
 	private static final Logger logger = LoggerFactory.getLogger(FriendsService.class);
 
-	public FriendsService(FriendsMapper friendsMapper) {
+	public FriendsService(FriendsMapper friendsMapper, FriendGraph friendGraph,
+						  FriendRecommendationService recommendationService, PresenceService presenceService) {
 		this.friendsMapper = friendsMapper;
+		this.friendGraph = friendGraph;
+		this.recommendationService = recommendationService;
+		this.presenceService = presenceService;
 	}
 
 	public List<FriendDto> getFriendsWithIds(Integer memberId) {
 		logger.info("Fetching friends with IDs for member ID: {}", memberId);
 		List<FriendDto> friends = friendsMapper.selectFriendsById(memberId);
+		// 접속 여부는 DB(login_check) 대신 메모리 접속 상태에서
+		for (FriendDto friend : friends) {
+			friend.setOnline(presenceService.isOnline(friend.getId()));
+		}
 		logger.info("Fetched friends: {}", friends);
 		return friends;
 	}
@@ -33,13 +49,38 @@ public class FriendsService {
 
 		friendsMapper.insertFriend(friendRequest.getMemberId(), friendRequest.getFriendId(), member.getNickname(), friend.getNickname());
 		friendsMapper.insertFriend(friendRequest.getFriendId(), friendRequest.getMemberId(), friend.getNickname(), member.getNickname());
+		friendGraph.add(friendRequest.getMemberId(), friendRequest.getFriendId());
+		friendGraph.add(friendRequest.getFriendId(), friendRequest.getMemberId());
+		recommendationService.invalidate(friendRequest.getMemberId(), friendRequest.getFriendId());
 	}
 
 	public boolean checkFriendship(Integer memberId, Integer friendId) {
-		return friendsMapper.checkFriendship(memberId, friendId) > 0;
+		// 그래프 적재 전이나 tcp 에서는 내부에서 DB 조회
+		return friendGraph.areFriends(memberId, friendId);
+	}
+
+	// 요청 순서대로 id → 친구 여부, 그래프로 판단할 수 없으면(적재 전, tcp) IN 쿼리 한 번
+	public Map<Integer, Boolean> checkFriendships(Integer memberId, List<Integer> friendIds) {
+		Map<Integer, Boolean> result = new LinkedHashMap<>();
+		if (friendIds.isEmpty()) {
+			return result;
+		}
+		if (friendGraph.isAuthoritative()) {
+			for (Integer friendId : friendIds) {
+				result.put(friendId, friendGraph.areFriends(memberId, friendId));
+			}
+			return result;
+		}
+		Set<Integer> friends = new HashSet<>(friendsMapper.selectFriendIdsIn(memberId, friendIds));
+		for (Integer friendId : friendIds) {
+			result.put(friendId, friends.contains(friendId));
+		}
+		return result;
 	}
 
 	public void deleteFriend(Integer memberId, Integer friendId) {
 		friendsMapper.deleteFriend(memberId, friendId);
+		friendGraph.remove(memberId, friendId);
+		recommendationService.invalidate(memberId, friendId);
 	}
 }
@@ -7,6 +7,7 @@ import com.backend.mapper.member.MemberMapper;
 import com.backend.oauth2.CustomOAuth2User;
 import com.backend.oauth2.NaverResponse;
 import com.backend.oauth2.OAuth2Response;
+import com.backend.service.common.EntityVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -21,6 +22,8 @@ import java.time.LocalDate;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberMapper memberMapper;
+    private final EntityVersionService versionService;
+    private final MemberCache memberCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -74,6 +77,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             existMember.setName(oAuth2Response.getName());
 
             memberMapper.updateMember(existMember);
+            memberCache.evict(existMember.getId());
+            versionService.touch(EntityVersionService.member(existMember.getId()));
 
             OAuth2Member oAuth2Member = new OAuth2Member();
             oAuth2Member.setUsername(existMember.getUsername());
@@ -17,7 +17,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // db 에서 조회
+        // db 에서 조회 (비밀번호 해시가 필요하므로 MemberCache 를 거치지 않음, 로그인 시에만 호출)
         Member member = memberMapper.selectByUsername(username);
 
         if (member == null) {
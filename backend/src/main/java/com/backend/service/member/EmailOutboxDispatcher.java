@@ -0,0 +1,211 @@
+package com.backend.service.member;
+
+import com.backend.domain.member.EmailOutbox;
+import com.backend.domain.member.MemberIdentity;
+import com.backend.mapper.member.EmailOutboxMapper;
+import com.backend.mapper.member.MemberMapper;
+import com.backend.service.common.EntityVersionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * email_outbox 발송.
+ * - poll-ms 마다 (또는 새 메일이 커밋되면 바로) 대기 행을 claim 해서 보냄
+ * - per-connection 개씩 묶어 SMTP 연결 하나로 보내고, 동시에 concurrency 개 연결까지
+ * - 실패하면 base-delay 부터 두 배씩 늘려 재시도, max-attempts 넘으면 FAILED
+ * - 발송에 성공한 임시 비밀번호 메일만 회원 비밀번호에 반영 (메일 실패로 로그인 못 하게 되는 일 없음)
+ * - spring.mail.host/port 를 로컬 SMTP(MailHog 등)로 바꿔서 확인 가능
+ * - SMTP 발송은 스케줄러 스레드가 아닌 전용 스레드(poller)에서, 스케줄은 깨우기만 함
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final String FROM = "petmily2024@naver.com";
+
+    private final EmailOutboxMapper outboxMapper;
+    private final MemberMapper memberMapper;
+    private final EntityVersionService versionService;
+    private final MemberCache memberCache;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService senders;
+    // wakeUp 용, 이미 한 번 대기 중이면 더 쌓지 않음
+    private final ThreadPoolExecutor poller = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), r -> new Thread(r, "email-outbox-poller"), new ThreadPoolExecutor.DiscardPolicy());
+
+    private final int batchSize;
+    private final int perConnection;
+    private final int maxAttempts;
+    private final long baseDelaySeconds;
+    private final int claimTimeoutSeconds;
+
+    private final Counter sent;
+    private final Counter failed;
+
+    public EmailOutboxDispatcher(EmailOutboxMapper outboxMapper,
+                                 MemberMapper memberMapper,
+                                 EntityVersionService versionService,
+                                 MemberCache memberCache,
+                                 JavaMailSender mailSender,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry,
+                                 @Value("${email.outbox.concurrency:2}") int concurrency,
+                                 @Value("${email.outbox.batch-size:50}") int batchSize,
+                                 @Value("${email.outbox.per-connection:10}") int perConnection,
+                                 @Value("${email.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${email.outbox.base-delay-seconds:30}") long baseDelaySeconds,
+                                 @Value("${email.outbox.claim-timeout-seconds:300}") int claimTimeoutSeconds) {
+        this.outboxMapper = outboxMapper;
+        this.memberMapper = memberMapper;
+        this.versionService = versionService;
+        this.memberCache = memberCache;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.senders = Executors.newFixedThreadPool(concurrency, r -> new Thread(r, "email-outbox-sender"));
+        this.batchSize = batchSize;
+        this.perConnection = perConnection;
+        this.maxAttempts = maxAttempts;
+        this.baseDelaySeconds = baseDelaySeconds;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+        this.sent = registry.counter("email.outbox.sent");
+        this.failed = registry.counter("email.outbox.failed");
+    }
+
+    // 새 메일 커밋 직후 호출 (요청 스레드는 기다리지 않음)
+    public void wakeUp() {
+        poller.execute(this::dispatch);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-ms:10000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    public synchronized void dispatch() {
+        try {
+            outboxMapper.releaseStale(claimTimeoutSeconds);
+            String token = UUID.randomUUID().toString();
+            if (outboxMapper.claim(token, batchSize) == 0) {
+                return;
+            }
+            List<EmailOutbox> claimed = outboxMapper.selectClaimed(token);
+            List<Callable<Void>> chunks = new ArrayList<>();
+            for (int from = 0; from < claimed.size(); from += perConnection) {
+                List<EmailOutbox> chunk = claimed.subList(from, Math.min(from + perConnection, claimed.size()));
+                chunks.add(() -> {
+                    send(chunk);
+                    return null;
+                });
+            }
+            senders.invokeAll(chunks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("email outbox dispatch failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        poller.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    // 한 번의 send 호출 = SMTP 연결 하나로 여러 메일
+    private void send(List<EmailOutbox> chunk) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            messages[i] = message(chunk.get(i));
+        }
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(messages);
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                // 연결 자체 실패 등: 전부 실패로
+                failures = allFailed(messages, e);
+            }
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            EmailOutbox outbox = chunk.get(i);
+            Exception failure = failures.get(messages[i]);
+            if (failure == null) {
+                complete(outbox);
+            } else {
+                retryLater(outbox, failure);
+            }
+        }
+    }
+
+    private void complete(EmailOutbox outbox) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (outbox.getPasswordHash() != null) {
+                MemberIdentity identity = memberCache.byUsername(outbox.getUsername());
+                memberMapper.updatePasswordByEmail(outbox.getUsername(), outbox.getPasswordHash());
+                memberCache.evictUsername(outbox.getUsername());
+                // 비밀번호만 바뀜 → 그 회원 응답만 무효화
+                if (identity != null) {
+                    versionService.touch(EntityVersionService.member(identity.getId()));
+                }
+            }
+            outboxMapper.markSent(outbox.getId());
+        });
+        sent.increment();
+    }
+
+    private void retryLater(EmailOutbox outbox, Exception failure) {
+        int attempts = outbox.getAttempts() == null ? 0 : outbox.getAttempts();
+        long delay = baseDelaySeconds << Math.min(attempts, 10);
+        String error = String.valueOf(failure.getMessage());
+        outboxMapper.markFailed(outbox.getId(), error.length() > 500 ? error.substring(0, 500) : error, delay, maxAttempts);
+        failed.increment();
+        log.warn("email outbox {} send failed (attempt {}/{}): {}", outbox.getId(), attempts + 1, maxAttempts, error);
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private static SimpleMailMessage message(EmailOutbox outbox) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(FROM);
+        message.setReplyTo(FROM);
+        message.setTo(outbox.getRecipient());
+        message.setSubject(outbox.getSubject());
+        message.setText(outbox.getBody());
+        return message;
+    }
+}
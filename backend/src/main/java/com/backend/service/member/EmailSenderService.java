@@ -1,32 +1,42 @@
 package com.backend.service.member;
 
-import com.backend.domain.member.EmailSender;
-import com.backend.mapper.member.MemberMapper;
+import com.backend.domain.member.EmailOutbox;
+import com.backend.mapper.member.EmailOutboxMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.security.SecureRandom;
+
+// 임시 비밀번호 메일은 email_outbox 에 넣기만 하고 발송/비밀번호 반영은 EmailOutboxDispatcher 가
 @Service
 @RequiredArgsConstructor
 public class EmailSenderService {
 
-    private final JavaMailSender mailSender;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final BCryptPasswordEncoder passwordEncoder;
-    private final MemberMapper mapper;
+    private final EmailOutboxMapper outboxMapper;
+    private final EmailOutboxDispatcher dispatcher;
 
-    public String createMail(String username) {
-        EmailSender sender = new EmailSender();
+    @Transactional
+    public void createMail(String username) {
         String tempPassword = getTempPassword();
 
-        sender.setAddress(username);
-        sender.setTitle("임시 비밀번호 발급");
-        sender.setContent("임시 비밀번호: " + tempPassword + "\n 로그인 후 비밀번호를 반드시 변경해 주세요.\n");
-        sendEmail(sender);
-        updatePassword(username, tempPassword);
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setRecipient(username);
+        outbox.setUsername(username);
+        outbox.setSubject("임시 비밀번호 발급");
+        outbox.setBody("임시 비밀번호: " + tempPassword + "\n 로그인 후 비밀번호를 반드시 변경해 주세요.\n");
+        // 비밀번호는 메일이 실제로 나간 뒤에 반영
+        outbox.setPasswordHash(passwordEncoder.encode(tempPassword));
 
-        return tempPassword;
+        outboxMapper.supersedePending(username);
+        outboxMapper.insert(outbox);
+        afterCommit(dispatcher::wakeUp);
     }
 
     private String getTempPassword() {
@@ -35,26 +45,22 @@ public class EmailSenderService {
                 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z'};
         StringBuilder tempPassword = new StringBuilder();
 
-        int idx = 0;
         for (int i = 0; i < 8; i++) {
-            idx = (int) (charSet.length * Math.random());
-            tempPassword.append(charSet[idx]);
+            tempPassword.append(charSet[RANDOM.nextInt(charSet.length)]);
         }
         return tempPassword.toString();
     }
 
-    private void sendEmail(EmailSender sender) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom("petmily2024@naver.com");
-        message.setReplyTo("petmily2024@naver.com");
-        message.setTo(sender.getAddress());
-        message.setSubject(sender.getTitle());
-        message.setText(sender.getContent());
-        mailSender.send(message);
-    }
-
-    public void updatePassword(String username, String tempPassword) {
-        String password = passwordEncoder.encode(tempPassword);
-        mapper.updatePasswordByEmail(username, password);
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
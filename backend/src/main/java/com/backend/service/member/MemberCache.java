@@ -0,0 +1,164 @@
+package com.backend.service.member;
+
+import com.backend.domain.member.MemberIdentity;
+import com.backend.mapper.member.MemberMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원 식별 정보 캐시 (id / username / nickname → id, username, nickname, role).
+ * - 비밀번호 해시는 보관하지 않음 (로그인 검증은 CustomUserDetailsService 가 DB 에서)
+ * - id 기준 TTL + LRU, username/nickname 은 id 를 가리키는 보조 색인 (LRU 로 빠지면 같이 제거)
+ * - 없는 회원은 캐시하지 않음 (가입 직후 바로 보이도록)
+ * - 회원 정보를 바꾸는 곳에서 evict, 무효화와 겹친 로딩 결과는 넣지 않음 (DiaryAccessCache 와 같은 stamp 방식)
+ * - member.cache.hit (= 아낀 DB 조회 수) / member.cache.miss / member.cache.hit.ratio
+ * - 노드 로컬: 클러스터에서 다른 노드의 변경(닉네임, 권한 등)은 TTL 이 지나야 반영
+ */
+@Component
+public class MemberCache {
+
+    private final MemberMapper memberMapper;
+    private final long ttlMillis;
+    private final Map<Integer, Entry> byId;
+    private final Map<String, Integer> byUsername = new ConcurrentHashMap<>();
+    private final Map<String, Integer> byNickname = new ConcurrentHashMap<>();
+    private final AtomicLong stamp = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public MemberCache(MemberMapper memberMapper,
+                       MeterRegistry registry,
+                       @Value("${member.cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${member.cache.max-members:10000}") int maxMembers) {
+        this.memberMapper = memberMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.byId = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() > maxMembers) {
+                    unindex(eldest.getValue().member());
+                    return true;
+                }
+                return false;
+            }
+        });
+        this.hits = registry.counter("member.cache.hit");
+        this.misses = registry.counter("member.cache.miss");
+        registry.gauge("member.cache.hit.ratio", this, cache -> cache.hitRatio());
+        registry.gauge("member.cache.size", byId, Map::size);
+    }
+
+    public MemberIdentity byId(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        MemberIdentity cached = fresh(id);
+        return cached != null ? hit(cached) : load(() -> memberMapper.selectIdentityById(id));
+    }
+
+    public MemberIdentity byUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        MemberIdentity cached = fresh(byUsername.get(username));
+        if (cached != null && username.equals(cached.getUsername())) {
+            return hit(cached);
+        }
+        return load(() -> memberMapper.selectIdentityByUsername(username));
+    }
+
+    public MemberIdentity byNickname(String nickname) {
+        if (nickname == null) {
+            return null;
+        }
+        MemberIdentity cached = fresh(byNickname.get(nickname));
+        if (cached != null && nickname.equals(cached.getNickname())) {
+            return hit(cached);
+        }
+        return load(() -> memberMapper.selectIdentityByNickname(nickname));
+    }
+
+    // 회원 정보 수정/삭제, 프로필, OAuth2 갱신 시
+    public void evict(Integer id) {
+        stamp.incrementAndGet();
+        Entry removed = byId.remove(id);
+        if (removed != null) {
+            unindex(removed.member());
+        }
+    }
+
+    // 비밀번호 재설정처럼 username 만 아는 경우
+    public void evictUsername(String username) {
+        Integer id = byUsername.get(username);
+        if (id != null) {
+            evict(id);
+        } else {
+            stamp.incrementAndGet();
+        }
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private MemberIdentity fresh(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        Entry entry = byId.get(id);
+        return entry != null && entry.expiresAt() > System.currentTimeMillis() ? entry.member() : null;
+    }
+
+    private MemberIdentity hit(MemberIdentity member) {
+        hits.increment();
+        return member;
+    }
+
+    private MemberIdentity load(Supplier<MemberIdentity> loader) {
+        misses.increment();
+        long before = stamp.get();
+        MemberIdentity loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (byId) {
+            if (stamp.get() == before) {
+                Entry previous = byId.put(loaded.getId(), new Entry(loaded, System.currentTimeMillis() + ttlMillis));
+                if (previous != null) {
+                    unindex(previous.member());
+                }
+                if (loaded.getUsername() != null) {
+                    byUsername.put(loaded.getUsername(), loaded.getId());
+                }
+                if (loaded.getNickname() != null) {
+                    byNickname.put(loaded.getNickname(), loaded.getId());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // 다른 회원이 이미 가리키고 있으면 그대로 둠
+    private void unindex(MemberIdentity member) {
+        if (member.getUsername() != null) {
+            byUsername.remove(member.getUsername(), member.getId());
+        }
+        if (member.getNickname() != null) {
+            byNickname.remove(member.getNickname(), member.getId());
+        }
+    }
+
+    private record Entry(MemberIdentity member, long expiresAt) {
+    }
+}
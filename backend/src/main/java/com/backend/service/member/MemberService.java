@@ -3,6 +3,8 @@ package com.backend.service.member;
 import com.backend.domain.board.Board;
 import com.backend.domain.diary.Diary;
 import com.backend.domain.member.Member;
+import com.backend.domain.member.MemberIdentity;
+import com.backend.domain.member.MemberPage;
 import com.backend.domain.member.Profile;
 import com.backend.domain.member.Role;
 import com.backend.mapper.board.BoardCommentMapper;
@@ -12,7 +14,10 @@ import com.backend.mapper.diary.DiaryMapper;
 import com.backend.mapper.member.MemberMapper;
 import com.backend.mapper.member.ProfileMapper;
 import com.backend.mapper.member.RefreshMapper;
+import com.backend.service.board.BoardCommentPageCache;
 import com.backend.service.board.BoardService;
+import com.backend.service.common.EntityVersionService;
+import com.backend.service.diary.DiaryAccessCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -25,6 +30,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -39,7 +45,11 @@ public class MemberService {
     private final BoardService boardService;
     private final BoardMapper boardMapper;
     private final BoardCommentMapper boardCommentMapper;
+    private final BoardCommentPageCache commentPageCache;
     private final DiaryMapper diaryMapper;
+    private final EntityVersionService versionService;
+    private final DiaryAccessCache diaryAccessCache;
+    private final MemberCache memberCache;
 
     // ❌ Azure 클라이언트 제거됨
 
@@ -71,8 +81,10 @@ public class MemberService {
         return memberMapper.selectByUsername(username);
     }
 
+    // 닉네임 중복 확인용 (비밀번호 없는 캐시 정보)
     public Member getByNickname(String nickname) {
-        return memberMapper.selectByNickname(nickname);
+        MemberIdentity member = memberCache.byNickname(nickname);
+        return member == null ? null : member.toMember();
     }
 
     // 회원 단건 조회
@@ -97,7 +109,17 @@ public class MemberService {
         if (member.getPassword() != null && !member.getPassword().isEmpty()) {
             member.setPassword(passwordEncoder.encode(member.getPassword()));
         }
-        return memberMapper.update(member) > 0;
+        MemberIdentity previous = memberCache.byId(id);
+        boolean updated = memberMapper.update(member) > 0;
+        if (updated) {
+            memberCache.evict(id);
+            versionService.touch(EntityVersionService.member(id));
+            // 닉네임은 게시글/다이어리 응답에도 포함되므로 바뀐 경우에만 전역 키도 갱신
+            if (previous == null || !Objects.equals(previous.getNickname(), member.getNickname())) {
+                versionService.touch(EntityVersionService.NICKNAMES, EntityVersionService.BOARD_LIST);
+            }
+        }
+        return updated;
     }
 
     // ✅ [수정] 프로필 이미지 저장 (로컬 폴더 사용)
@@ -132,6 +154,8 @@ public class MemberService {
         }
 
         profileMapper.insertProfile(profile);
+        memberCache.evict(memberId);
+        versionService.touch(EntityVersionService.member(memberId));
     }
 
     public Profile getProfileByMemberId(Integer memberId) {
@@ -145,6 +169,7 @@ public class MemberService {
             // ✅ [수정] Azure 삭제 함수 대신 로컬 삭제 함수 호출
             deleteLocalImage(profile.getFileName());
             profileMapper.deleteProfileByMemberId(memberId);
+            versionService.touch(EntityVersionService.member(memberId));
         }
     }
 
@@ -176,6 +201,8 @@ public class MemberService {
 
         // 댓글 삭제
         boardCommentMapper.deleteByMemberId(id);
+        commentPageCache.evictAll();
+        diaryAccessCache.evictAll();
 
         // 다이어리 삭제
         diaryBoardMapper.selectByMemberId(id).forEach(diary -> {
@@ -183,7 +210,7 @@ public class MemberService {
         });
 
         // Refresh 토큰 삭제
-        Member member = memberMapper.selectByMemberId(id);
+        MemberIdentity member = memberCache.byId(id);
         if (member != null) {
             refreshMapper.deleteByUsername(member.getUsername());
         }
@@ -193,6 +220,9 @@ public class MemberService {
 
         // 회원 삭제
         memberMapper.deleteById(id);
+        memberCache.evict(id);
+        versionService.touch(EntityVersionService.member(id), EntityVersionService.NICKNAMES,
+                EntityVersionService.BOARD_LIST);
     }
 
     public boolean validatePassword(Integer id, String password) {
@@ -201,23 +231,18 @@ public class MemberService {
     }
 
     // 회원 목록
-    public Map<String, Object> list(int page, int pageSize) {
+    public MemberPage list(int page, int pageSize) {
         int totalMembers = memberMapper.countAllMembers();
         int totalPages = (int) Math.ceil((double) totalMembers / pageSize);
         int offset = (page - 1) * pageSize;
 
         List<Member> members = memberMapper.selectAll(pageSize, offset);
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("members", members);
-        result.put("totalPages", totalPages);
-        result.put("currentPage", page);
-
-        return result;
+        return new MemberPage(members, totalPages, page);
     }
 
     public Map<String, Object> getMemberInfoById(Integer id) {
-        Member member = memberMapper.selectByMemberId(id);
+        MemberIdentity member = memberCache.byId(id);
         Map<String, Object> map = new HashMap<>();
         if (member != null) {
             map.put("id", member.getId());
@@ -231,8 +256,8 @@ public class MemberService {
     public Member getMemberByDiaryId(String diaryId) {
         try {
             int userId = Integer.parseInt(diaryId.split("-")[1]) / 17;
-            Member member = memberMapper.selectByMemberId(userId);
-            return member;
+            MemberIdentity member = memberCache.byId(userId);
+            return member == null ? null : member.toMember();
         } catch (Exception e) {
             return null;
         }
@@ -0,0 +1,152 @@
+package com.backend.service.member;
+
+import com.backend.domain.member.PresenceEvent;
+import com.backend.mapper.member.LoginCheckMapper;
+import com.backend.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 id 기준 접속 상태 (메모리).
+ * - STOMP CONNECT/DISCONNECT 이벤트로 회원별 세션 수 관리 (회원 id 는 CONNECT 때 인증된 principal), 브로커 heartbeat 가 끊긴 연결을 정리
+ * - 온라인/오프라인 전환 시 /topic/presence/{memberId} 로 push
+ * - login_check 테이블에는 변경분만 모아서 주기적으로 저장 (재시작 시 초기값 용도)
+ * - 시작 직후에는 DB 에 온라인으로 남아 있던 회원을 grace 기간 동안 온라인으로 간주 (재접속 대기)
+ * - 클러스터(cluster.mode=tcp)에서 isOnline 은 이 노드에 붙은 세션 기준: 다른 노드에만 접속한 회원은 오프라인으로 보임
+ *   (/topic/presence push 는 다른 노드 구독자에게도 전달됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+    private final LoginCheckMapper loginCheckMapper;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    // sessionId → memberId
+    private final Map<String, Integer> sessions = new ConcurrentHashMap<>();
+    // memberId → 열린 세션 수 (탭 여러 개)
+    private final Map<Integer, Integer> sessionCounts = new ConcurrentHashMap<>();
+    // 아직 DB 에 저장하지 않은 변경분 (memberId → online)
+    private final Map<Integer, Boolean> dirty = new ConcurrentHashMap<>();
+    // 시작 시 DB 에서 읽은 온라인 회원 (grace 기간 동안만 유효)
+    private final Set<Integer> seeded = ConcurrentHashMap.newKeySet();
+
+    @Value("${presence.grace-seconds:60}")
+    private long graceSeconds;
+
+    private volatile long graceDeadline;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        graceDeadline = System.currentTimeMillis() + graceSeconds * 1000;
+        try {
+            seeded.addAll(loginCheckMapper.selectOnlineMemberIds());
+        } catch (Exception e) {
+            log.warn("presence seed failed", e);
+        }
+    }
+
+    public boolean isOnline(Integer memberId) {
+        if (memberId == null) {
+            return false;
+        }
+        return sessionCounts.containsKey(memberId)
+                || (seeded.contains(memberId) && System.currentTimeMillis() < graceDeadline);
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Integer memberId = memberId(event);
+        if (memberId == null || accessor.getSessionId() == null) {
+            return;
+        }
+        sessions.put(accessor.getSessionId(), memberId);
+        // grace 기간 중 재접속이면 이미 온라인으로 알려진 상태라 push 생략
+        boolean seededOnline = seeded.remove(memberId) && System.currentTimeMillis() < graceDeadline;
+        if (sessionCounts.merge(memberId, 1, Integer::sum) == 1 && !seededOnline) {
+            changed(memberId, true);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Integer memberId = sessions.remove(event.getSessionId());
+        if (memberId == null) {
+            return;
+        }
+        Integer remaining = sessionCounts.computeIfPresent(memberId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            changed(memberId, false);
+        }
+    }
+
+    // 변경분 일괄 저장 + grace 기간 지난 초기값 정리
+    @Scheduled(fixedDelayString = "${presence.flush-ms:5000}")
+    public void flush() {
+        if (!seeded.isEmpty() && System.currentTimeMillis() >= graceDeadline) {
+            for (Integer memberId : List.copyOf(seeded)) {
+                seeded.remove(memberId);
+                if (!sessionCounts.containsKey(memberId)) {
+                    changed(memberId, false);
+                }
+            }
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<Integer> online = new ArrayList<>();
+        List<Integer> offline = new ArrayList<>();
+        for (Integer memberId : List.copyOf(dirty.keySet())) {
+            Boolean value = dirty.remove(memberId);
+            if (value == null) {
+                continue;
+            }
+            (value ? online : offline).add(memberId);
+        }
+        try {
+            if (!online.isEmpty()) {
+                loginCheckMapper.upsertPresence(online, true);
+            }
+            if (!offline.isEmpty()) {
+                loginCheckMapper.upsertPresence(offline, false);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (그 사이 더 새로운 값이 들어왔으면 그대로 둠)
+            online.forEach(id -> dirty.putIfAbsent(id, true));
+            offline.forEach(id -> dirty.putIfAbsent(id, false));
+            log.warn("presence flush failed", e);
+        }
+    }
+
+    private void changed(Integer memberId, boolean online) {
+        dirty.put(memberId, online);
+        messagingTemplate.convertAndSend("/topic/presence/" + memberId, new PresenceEvent(memberId, online));
+    }
+
+    private Integer memberId(SessionConnectEvent event) {
+        if (event.getUser() instanceof UsernamePasswordAuthenticationToken auth
+                && auth.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
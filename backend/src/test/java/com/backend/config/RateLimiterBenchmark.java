@@ -0,0 +1,75 @@
+package com.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark: 동시 호출 시 tryAcquire 한 번이 1µs 미만인지 (CAS 경합 포함)
+@Tag("benchmark")
+class RateLimiterBenchmark {
+
+    private static final int KEYS = 64; // 2의 거듭제곱 (인덱스를 & 로 계산), 스레드끼리 같은 키를 겹쳐 침
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private final RateLimiter rateLimiter = new RateLimiter(environment, new SimpleMeterRegistry());
+
+    @Test
+    void concurrentCheckCostsUnderOneMicrosecond(TestReporter reporter) throws Exception {
+        environment.setProperty("rate-limit.bench.capacity", "1000");
+        environment.setProperty("rate-limit.bench.per-second", "1000000");
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        String[] names = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            names[i] = "m:" + i;
+        }
+
+        run(threads, 200_000, names); // 워밍업 (JIT, 버킷 생성)
+        int perThread = 1_000_000;
+        long nanosPerOp = run(threads, perThread, names) / perThread; // 스레드 하나가 본 호출당 시간
+
+        reporter.publishEntry("rateLimiter.tryAcquire.nsPerOp", String.valueOf(nanosPerOp));
+        reporter.publishEntry("threads", String.valueOf(threads));
+        assertThat(nanosPerOp).isLessThan(1_000);
+    }
+
+    // 모든 스레드가 동시에 시작, 가장 늦게 끝난 스레드 기준 경과 나노초
+    private long run(int threads, int perThread, String[] names) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    long sink = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        sink += rateLimiter.tryAcquire("bench", names[(i + offset) & (KEYS - 1)]);
+                    }
+                    long elapsed = System.nanoTime() - begin;
+                    return sink == Long.MIN_VALUE ? 0 : elapsed;
+                }));
+            }
+            start.countDown();
+            long slowest = 0;
+            for (Future<Long> result : results) {
+                slowest = Math.max(slowest, result.get());
+            }
+            return slowest;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
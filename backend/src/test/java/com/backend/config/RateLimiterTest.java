@@ -0,0 +1,63 @@
+package com.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimiter rateLimiter = new RateLimiter(environment, registry);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryDelay() {
+        environment.setProperty("rate-limit.test.capacity", "3");
+        environment.setProperty("rate-limit.test.per-second", "1");
+
+        assertThat(rateLimiter.tryAcquire("test", "k")).isZero();
+        assertThat(rateLimiter.tryAcquire("test", "k")).isZero();
+        assertThat(rateLimiter.tryAcquire("test", "k")).isZero();
+
+        long retryNanos = rateLimiter.tryAcquire("test", "k");
+        assertThat(retryNanos).isPositive().isLessThanOrEqualTo(1_000_000_000L);
+        assertThat(registry.counter("rate.limit.rejected", "rule", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        environment.setProperty("rate-limit.test.capacity", "1");
+        environment.setProperty("rate-limit.test.per-second", "1");
+
+        assertThat(rateLimiter.tryAcquire("test", "a")).isZero();
+        assertThat(rateLimiter.tryAcquire("test", "a")).isPositive();
+        assertThat(rateLimiter.tryAcquire("test", "b")).isZero();
+    }
+
+    @Test
+    void sweepDropsOnlyRefilledBuckets() {
+        environment.setProperty("rate-limit.test.capacity", "1");
+        environment.setProperty("rate-limit.test.per-second", "1000000");
+        environment.setProperty("rate-limit.slow.capacity", "1");
+        environment.setProperty("rate-limit.slow.per-second", "0.001");
+
+        rateLimiter.tryAcquire("test", "k");
+        rateLimiter.tryAcquire("slow", "k");
+        sleepMillis(5);
+        rateLimiter.sweep();
+
+        // 다 찬 버킷은 지워져도 동작이 같고, 안 찬 버킷은 남아서 계속 거절
+        assertThat(rateLimiter.tryAcquire("test", "k")).isZero();
+        assertThat(rateLimiter.tryAcquire("slow", "k")).isPositive();
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
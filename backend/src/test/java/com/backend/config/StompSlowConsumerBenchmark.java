@@ -0,0 +1,238 @@
+package com.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ./gradlew benchmark: 5000 개 세션에 방송하는 동안 일부 세션이 읽지 않을 때 (TERMINATE 정책).
+ * - 읽지 않는 세션은 sendMessage 가 close 될 때까지 막힘 (소켓 송신 버퍼가 찬 상태), 최대 BLOCKING_SEND_TIMEOUT
+ * - 송신 스레드(clientOutboundChannel 풀 흉내)는 막히는 세션 수보다 많아야 나머지 세션이 계속 받음
+ */
+@Tag("benchmark")
+class StompSlowConsumerBenchmark {
+
+    private static final int SESSIONS = 5_000;
+    private static final int STALLED_EVERY = 100; // 50 개 세션이 읽지 않음
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 30;
+    private static final long ROUND_INTERVAL_MS = 20;
+    private static final int SEND_TIME_LIMIT_MS = 200;
+    private static final int BUFFER_LIMIT = 16 * 1024;
+    private static final long BLOCKING_SEND_TIMEOUT_MS = 5_000;
+    private static final TextMessage FRAME = new TextMessage("x".repeat(200));
+
+    @Test
+    void stalledReadersAreCutOffWithoutPerSessionMeters(TestReporter reporter) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LimitedSubProtocolWebSocketHandler handler = new LimitedSubProtocolWebSocketHandler(
+                mock(MessageChannel.class), mock(SubscribableChannel.class), OverflowStrategy.TERMINATE, registry);
+        handler.setSendTimeLimit(SEND_TIME_LIMIT_MS);
+        handler.setSendBufferSizeLimit(BUFFER_LIMIT);
+
+        List<StubSession> stubs = new ArrayList<>();
+        List<WebSocketSession> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            StubSession stub = new StubSession("s" + i, i % STALLED_EVERY == 0);
+            stubs.add(stub);
+            sessions.add(handler.decorateSession(stub));
+        }
+
+        long[] latencies = new long[SESSIONS * ROUNDS];
+        AtomicInteger recorded = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int i = 0; i < SESSIONS; i++) {
+                    WebSocketSession session = sessions.get(i);
+                    boolean stalled = stubs.get(i).stalled;
+                    pool.execute(() -> {
+                        long begin = System.nanoTime();
+                        send(session);
+                        if (!stalled) {
+                            latencies[recorded.getAndIncrement()] = System.nanoTime() - begin;
+                        }
+                    });
+                }
+                Thread.sleep(ROUND_INTERVAL_MS);
+            }
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        long stalled = stubs.stream().filter(stub -> stub.stalled).count();
+        long healthyShort = stubs.stream().filter(stub -> !stub.stalled && stub.received.get() != ROUNDS).count();
+        long[] healthy = Arrays.copyOf(latencies, recorded.get());
+        Arrays.sort(healthy);
+        DistributionSummary depth = registry.get("stomp.session.buffer").summary();
+
+        reporter.publishEntry("stomp.sessions", String.valueOf(SESSIONS));
+        reporter.publishEntry("stomp.stalled", String.valueOf(stalled));
+        reporter.publishEntry("stomp.elapsedMs", String.valueOf(elapsedMs));
+        reporter.publishEntry("stomp.healthySend.p50us", String.valueOf(healthy[healthy.length / 2] / 1_000));
+        reporter.publishEntry("stomp.healthySend.p99us", String.valueOf(healthy[healthy.length * 99 / 100] / 1_000));
+        reporter.publishEntry("stomp.buffer.maxBytes", String.valueOf((long) depth.max()));
+        reporter.publishEntry("stomp.terminated", String.valueOf((long) registry.counter("stomp.session.terminated").count()));
+        reporter.publishEntry("meters", String.valueOf(registry.getMeters().size()));
+
+        assertThat(registry.find("stomp.session.buffer").meters()).hasSize(1);
+        assertThat(registry.counter("stomp.session.terminated").count()).isEqualTo(stalled);
+        assertThat(stubs.stream().filter(stub -> stub.stalled).allMatch(stub -> !stub.isOpen())).isTrue();
+        assertThat(healthyShort).isZero();
+        assertThat(depth.max()).isLessThanOrEqualTo(BUFFER_LIMIT + FRAME.getPayloadLength());
+    }
+
+    // SubProtocolWebSocketHandler 처럼 한도 초과 세션은 닫음
+    private static void send(WebSocketSession session) {
+        try {
+            session.sendMessage(FRAME);
+        } catch (SessionLimitExceededException e) {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 읽지 않는 세션: 닫힐 때까지 (최대 BLOCKING_SEND_TIMEOUT) 보내기가 끝나지 않음
+    private static class StubSession implements WebSocketSession {
+
+        private final String id;
+        private final boolean stalled;
+        private final AtomicInteger received = new AtomicInteger();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        StubSession(String id, boolean stalled) {
+            this.id = id;
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (stalled) {
+                try {
+                    if (!closed.await(BLOCKING_SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                        throw new IOException("blocking send timed out");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("closed");
+            }
+            received.incrementAndGet();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closed.getCount() > 0;
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closed.countDown();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return "v12.stomp";
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 64 * 1024;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 64 * 1024;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+    }
+}
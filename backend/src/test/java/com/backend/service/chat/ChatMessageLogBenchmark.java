@@ -0,0 +1,163 @@
+package com.backend.service.chat;
+
+import com.backend.mapper.chat.MessageMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ./gradlew benchmark: 채팅 로그 append / group commit, 전송 지연 (write-behind vs 메시지마다 INSERT).
+ * - DB 는 INSERT 한 번에 DB_ROUND_TRIP_NANOS 만큼 걸리는 mock (실제 DB 없이 왕복 시간만 흉내), 수치는 장비마다 다름
+ */
+@Tag("benchmark")
+class ChatMessageLogBenchmark {
+
+    private static final long DB_ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int SENDERS = 8;
+    private static final int PER_SENDER = 500;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appendLatencyWithoutFsync(TestReporter reporter) throws IOException {
+        byte[] payload = new byte[200];
+        ChatMessageLog log = new ChatMessageLog(dir, 64 * 1024 * 1024, false);
+        log.open();
+        for (int i = 0; i < 5_000; i++) {
+            log.append(payload);
+        }
+        int count = 50_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            log.append(payload);
+        }
+        long averageNanos = (System.nanoTime() - start) / count;
+        log.close();
+
+        reporter.publishEntry("chatLog.append.nsPerOp", String.valueOf(averageNanos));
+        assertThat(averageNanos).isLessThan(100_000);
+    }
+
+    // 여러 스레드가 append + sync: force 횟수가 append 수보다 적으면 group commit 이 된 것
+    @Test
+    void groupCommitSharesForces(TestReporter reporter) throws Exception {
+        ChatMessageLog log = new ChatMessageLog(dir, 64 * 1024 * 1024, true);
+        log.open();
+        byte[] payload = new byte[200];
+        long[] latencies = concurrently(SENDERS, PER_SENDER, () -> {
+            long id;
+            synchronized (log) { // ChatMessageWriter 의 appendLock 역할
+                id = log.append(payload);
+            }
+            log.sync(id);
+        });
+        log.close();
+
+        reporter.publishEntry("chatLog.groupCommit.appends", String.valueOf(latencies.length));
+        reporter.publishEntry("chatLog.groupCommit.forces", String.valueOf(log.syncCount()));
+        reporter.publishEntry("chatLog.groupCommit.p50us", String.valueOf(percentile(latencies, 50) / 1_000));
+        reporter.publishEntry("chatLog.groupCommit.p99us", String.valueOf(percentile(latencies, 99) / 1_000));
+        assertThat(log.syncCount()).isLessThanOrEqualTo(latencies.length);
+    }
+
+    // 보낸 쪽이 기다리는 시간: 로그(fsync) + 큐 적재 vs 메시지마다 DB INSERT
+    @Test
+    void sendLatencyWriteBehindVersusDirectInsert(TestReporter reporter) throws Exception {
+        MessageMapper mapper = slowMapper();
+        ChatMessageWriter writer = new ChatMessageWriter(mapper, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), JsonMapper.builder().findAndAddModules().build(),
+                true, dir.toString(), 64 * 1024 * 1024, true, "bench",
+                SENDERS * PER_SENDER, 500, 200, 1_000, 1_000);
+        writer.start();
+        long[] writeBehind;
+        try {
+            writeBehind = concurrently(SENDERS, PER_SENDER, () -> {
+                if (!writer.enqueue(ChatMessageWriterTest.message("hello"))) {
+                    throw new IllegalStateException("rejected");
+                }
+            });
+        } finally {
+            writer.stop();
+        }
+        long[] direct = concurrently(SENDERS, PER_SENDER,
+                () -> mapper.insertMessages(List.of(ChatMessageWriterTest.message("hello")), null));
+
+        reporter.publishEntry("send.writeBehind.p50us", String.valueOf(percentile(writeBehind, 50) / 1_000));
+        reporter.publishEntry("send.writeBehind.p99us", String.valueOf(percentile(writeBehind, 99) / 1_000));
+        reporter.publishEntry("send.directInsert.p50us", String.valueOf(percentile(direct, 50) / 1_000));
+        reporter.publishEntry("send.directInsert.p99us", String.valueOf(percentile(direct, 99) / 1_000));
+    }
+
+    private static MessageMapper slowMapper() {
+        MessageMapper mapper = mock(MessageMapper.class);
+        when(mapper.selectAutoIncrementIncrement()).thenReturn(1);
+        doAnswer(invocation -> {
+            LockSupport.parkNanos(DB_ROUND_TRIP_NANOS);
+            return null;
+        }).when(mapper).insertMessages(anyList(), any());
+        return mapper;
+    }
+
+    interface Operation {
+        void run() throws Exception;
+    }
+
+    // 호출마다 걸린 나노초 (모든 스레드 합친 것)
+    static long[] concurrently(int threads, int perThread, Operation operation) throws Exception {
+        long[] latencies = new long[threads * perThread];
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        long begin = System.nanoTime();
+                        operation.run();
+                        latencies[base + i] = System.nanoTime() - begin;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return latencies;
+    }
+
+    static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
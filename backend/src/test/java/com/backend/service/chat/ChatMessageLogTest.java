@@ -0,0 +1,209 @@
+package com.backend.service.chat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageLogTest {
+
+    private static final long LARGE_SEGMENT = 64 * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopenReturnsRecordsInAppendOrder() throws IOException {
+        ChatMessageLog log = open(LARGE_SEGMENT);
+        List<Long> ids = appendAll(log, "a", "b", "c");
+        log.close();
+
+        List<ChatMessageLog.Entry> entries = new ChatMessageLog(dir, LARGE_SEGMENT, false).open();
+
+        assertThat(entries).extracting(ChatMessageLog.Entry::id).containsExactlyElementsOf(ids);
+        assertThat(payloads(entries)).containsExactly("a", "b", "c");
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void replayKeepsOrderAcrossSegmentsAndNewIdsComeAfter() throws IOException {
+        // 세그먼트 크기 1 → 레코드마다 새 세그먼트
+        ChatMessageLog log = open(1);
+        List<Long> ids = appendAll(log, "1", "2", "3", "4", "5");
+        log.close();
+        assertThat(segments()).hasSize(5);
+
+        ChatMessageLog reopened = new ChatMessageLog(dir, 1, false);
+        List<ChatMessageLog.Entry> entries = reopened.open();
+        long next = reopened.append(bytes("6"));
+        reopened.close();
+
+        assertThat(entries).extracting(ChatMessageLog.Entry::id).containsExactlyElementsOf(ids);
+        assertThat(payloads(entries)).containsExactly("1", "2", "3", "4", "5");
+        assertThat(next).isGreaterThan(ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void tornTailIsIgnored() throws IOException {
+        ChatMessageLog log = open(LARGE_SEGMENT);
+        appendAll(log, "first", "second");
+        log.close();
+
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3); // 마지막 레코드 본문을 쓰다 죽은 상태
+        }
+
+        List<ChatMessageLog.Entry> entries = new ChatMessageLog(dir, LARGE_SEGMENT, false).open();
+
+        assertThat(payloads(entries)).containsExactly("first");
+    }
+
+    @Test
+    void tornHeaderIsIgnored() throws IOException {
+        ChatMessageLog log = open(LARGE_SEGMENT);
+        appendAll(log, "first");
+        log.close();
+
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0})); // 헤더 일부만
+        }
+
+        List<ChatMessageLog.Entry> entries = new ChatMessageLog(dir, LARGE_SEGMENT, false).open();
+
+        assertThat(payloads(entries)).containsExactly("first");
+    }
+
+    @Test
+    void checksumMismatchStopsReadingThatSegment() throws IOException {
+        ChatMessageLog log = open(LARGE_SEGMENT);
+        appendAll(log, "aaaa", "bbbb", "cccc");
+        log.close();
+
+        // 두 번째 레코드 본문 첫 바이트 변경: [8 헤더][aaaa][8 헤더][bbbb]...
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes("x")), 8 + 4 + 8);
+        }
+
+        List<ChatMessageLog.Entry> entries = new ChatMessageLog(dir, LARGE_SEGMENT, false).open();
+
+        assertThat(payloads(entries)).containsExactly("aaaa");
+    }
+
+    @Test
+    void checkpointDeletesOnlyFullyPersistedClosedSegments() throws IOException {
+        ChatMessageLog log = open(1);
+        List<Long> ids = appendAll(log, "1", "2", "3");
+        assertThat(segments()).hasSize(3);
+
+        log.checkpoint(ids.get(0));
+        assertThat(segments()).hasSize(2);
+
+        // 마지막(활성) 세그먼트는 남음
+        log.checkpoint(ids.get(2));
+        assertThat(segments()).hasSize(1);
+        log.close();
+
+        List<ChatMessageLog.Entry> entries = new ChatMessageLog(dir, 1, false).open();
+        assertThat(payloads(entries)).containsExactly("3");
+    }
+
+    @Test
+    void checkpointAfterReplayDeletesReplayedSegments() throws IOException {
+        ChatMessageLog log = open(LARGE_SEGMENT);
+        appendAll(log, "a", "b");
+        log.close();
+
+        ChatMessageLog reopened = new ChatMessageLog(dir, LARGE_SEGMENT, false);
+        List<ChatMessageLog.Entry> entries = reopened.open();
+        assertThat(segments()).hasSize(2); // 이전 세그먼트 + 새 활성 세그먼트
+
+        reopened.checkpoint(entries.get(entries.size() - 1).id());
+        reopened.close();
+
+        assertThat(segments()).hasSize(1);
+        assertThat(new ChatMessageLog(dir, LARGE_SEGMENT, false).open()).isEmpty();
+    }
+
+    @Test
+    void syncForcesOnceForEverythingWrittenSoFar() throws IOException {
+        ChatMessageLog log = new ChatMessageLog(dir, LARGE_SEGMENT, true);
+        log.open();
+        List<Long> ids = appendAll(log, "a", "b", "c");
+
+        log.sync(ids.get(2));
+        assertThat(log.syncCount()).isEqualTo(1);
+
+        // 앞선 force 에 이미 포함됨
+        log.sync(ids.get(0));
+        assertThat(log.syncCount()).isEqualTo(1);
+
+        log.sync(log.append(bytes("d")));
+        assertThat(log.syncCount()).isEqualTo(2);
+        log.close();
+    }
+
+    @Test
+    void syncIsANoOpWithoutFsync() throws IOException {
+        ChatMessageLog log = open(LARGE_SEGMENT);
+        log.sync(log.append(bytes("a")));
+
+        assertThat(log.syncCount()).isZero();
+        log.close();
+    }
+
+    // 세그먼트를 넘길 때 닫히는 세그먼트는 roll 에서 force → 그 안의 레코드는 sync 가 다시 force 하지 않음
+    @Test
+    void rolledSegmentCountsAsSynced() throws IOException {
+        ChatMessageLog log = new ChatMessageLog(dir, 1, true);
+        log.open();
+        long first = log.append(bytes("a"));
+        log.append(bytes("b")); // 새 세그먼트
+
+        log.sync(first);
+
+        assertThat(log.syncCount()).isZero();
+        log.close();
+    }
+
+    private ChatMessageLog open(long segmentBytes) throws IOException {
+        ChatMessageLog log = new ChatMessageLog(dir, segmentBytes, false);
+        assertThat(log.open()).isEmpty();
+        return log;
+    }
+
+    private static List<Long> appendAll(ChatMessageLog log, String... payloads) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (String payload : payloads) {
+            ids.add(log.append(bytes(payload)));
+        }
+        return ids;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static List<String> payloads(List<ChatMessageLog.Entry> entries) {
+        return entries.stream().map(e -> new String(e.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,211 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.backend.mapper.chat.MessageMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// MessageMapper 는 메모리에 쌓는 mock (down 이면 INSERT 실패), 로그는 임시 디렉터리
+class ChatMessageWriterTest {
+
+    private static final long IDLE_FLUSH_MS = 60_000; // 저장 스레드가 스스로는 안 꺼내도록
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<ChatMessageWriter> started = new ArrayList<>();
+
+    @AfterEach
+    void stopWriters() throws Exception {
+        for (ChatMessageWriter writer : started) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void flushNowSavesQueuedMessagesInOrder() throws Exception {
+        FakeDatabase db = new FakeDatabase();
+        ChatMessageWriter writer = start(db, true, false, IDLE_FLUSH_MS);
+        List<ChatMessage> sent = List.of(message("a"), message("b"), message("c"));
+        sent.forEach(m -> assertThat(writer.enqueue(m)).isTrue());
+
+        assertThat(writer.flushNow()).isTrue();
+
+        assertThat(db.stored).extracting(ChatMessage::getContent).containsExactly("a", "b", "c");
+        assertThat(sent).extracting(ChatMessage::getId).containsExactly(1, 2, 3);
+    }
+
+    // DB 장애 중: 저장 스레드는 계속 재시도하지만 flushNow 는 타임아웃 안에 포기
+    @Test
+    void flushNowGivesUpWhileTheDatabaseIsDown() throws Exception {
+        FakeDatabase db = new FakeDatabase();
+        db.down = true;
+        ChatMessageWriter writer = start(db, true, false, 10);
+        writer.enqueue(message("a"));
+        verify(db.mapper, timeout(2_000).atLeastOnce()).insertMessages(anyList(), any());
+
+        boolean flushed = assertTimeoutPreemptively(Duration.ofSeconds(5), writer::flushNow);
+
+        assertThat(flushed).isFalse();
+        db.down = false;
+        verify(db.mapper, timeout(5_000).atLeastOnce()).selectLastInsertId();
+        assertThat(writer.flushNow()).isTrue();
+        assertThat(db.stored).extracting(ChatMessage::getContent).containsExactly("a");
+    }
+
+    @Test
+    void withoutLogBatchIsDroppedAfterBoundedRetries() throws Exception {
+        FakeDatabase db = new FakeDatabase();
+        db.down = true;
+        ChatMessageWriter writer = start(db, false, false, 10);
+        writer.enqueue(message("a"));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.counter("chat.writer.failed").count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(registry.counter("chat.writer.failed").count()).isEqualTo(1);
+        assertThat(writer.flushNow()).isTrue(); // 넘겨받을 배치 없음
+    }
+
+    // batch-size 가 차면 flush-ms 를 기다리지 않고 저장, 남은 것은 flushNow 로
+    @Test
+    void fullBatchesAreWrittenWithoutWaitingForTheFlushInterval() throws Exception {
+        FakeDatabase db = new FakeDatabase();
+        ChatMessageWriter writer = start(db, false, false, IDLE_FLUSH_MS);
+        for (int i = 0; i < 250; i++) {
+            assertThat(writer.enqueue(message(String.valueOf(i)))).isTrue();
+        }
+
+        verify(db.mapper, timeout(2_000).times(2)).insertMessages(anyList(), any());
+        assertThat(writer.flushNow()).isTrue();
+
+        assertThat(db.batchSizes).containsExactly(100, 100, 50);
+        assertThat(db.stored).extracting(ChatMessage::getContent).first().isEqualTo("0");
+        assertThat(db.stored).extracting(ChatMessage::getContent).last().isEqualTo("249");
+    }
+
+    @Test
+    void appendIsAcknowledgedAfterLogSync() throws Exception {
+        FakeDatabase db = new FakeDatabase();
+        ChatMessageWriter writer = start(db, true, true, IDLE_FLUSH_MS);
+
+        assertThat(writer.enqueue(message("a"))).isTrue();
+
+        assertThat(registry.get("chat.log.sync").functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    // 장애 중에 종료 → 로그에만 남은 메시지를 다음 시작 때 DB 에 없는 것만 순서대로 저장
+    @Test
+    void restartReplaysOnlyRecordsMissingFromTheDatabase() throws Exception {
+        FakeDatabase down = new FakeDatabase();
+        down.down = true;
+        ChatMessageWriter first = writer(down, true, false, 10);
+        first.start();
+        List<ChatMessage> sent = new ArrayList<>();
+        for (String content : List.of("1", "2", "3", "4", "5")) {
+            ChatMessage message = message(content);
+            assertThat(first.enqueue(message)).isTrue();
+            sent.add(message);
+        }
+        first.stop();
+        assertThat(down.stored).isEmpty();
+
+        // 앞의 두 개는 (다른 경로로) 이미 저장됐다고 가정
+        FakeDatabase db = new FakeDatabase();
+        when(db.mapper.selectMaxLogIdFrom(eq("node-a"), anyLong())).thenReturn(sent.get(1).getLogId());
+        ChatMessageWriter second = start(db, true, false, IDLE_FLUSH_MS);
+
+        assertThat(db.stored).extracting(ChatMessage::getContent).containsExactly("3", "4", "5");
+        assertThat(db.stored).extracting(ChatMessage::getLogId)
+                .containsExactly(sent.get(2).getLogId(), sent.get(3).getLogId(), sent.get(4).getLogId());
+        verify(db.mapper, atLeastOnce()).insertMessages(anyList(), eq("node-a"));
+
+        // 재생한 레코드는 checkpoint 로 정리됨 → 한 번 더 시작해도 다시 저장하지 않음
+        second.stop();
+        started.remove(second);
+        FakeDatabase again = new FakeDatabase();
+        start(again, true, false, IDLE_FLUSH_MS);
+        assertThat(again.stored).isEmpty();
+    }
+
+    private ChatMessageWriter start(FakeDatabase db, boolean logEnabled, boolean fsync, long flushMillis) throws Exception {
+        ChatMessageWriter writer = writer(db, logEnabled, fsync, flushMillis);
+        writer.start();
+        started.add(writer);
+        return writer;
+    }
+
+    private ChatMessageWriter writer(FakeDatabase db, boolean logEnabled, boolean fsync, long flushMillis) {
+        return new ChatMessageWriter(db.mapper, mock(PlatformTransactionManager.class), registry,
+                JsonMapper.builder().findAndAddModules().build(),
+                logEnabled, dir.toString(), 64 * 1024 * 1024, fsync, "node-a",
+                1_000, 100, flushMillis, 50, 200);
+    }
+
+    static ChatMessage message(String content) {
+        ChatMessage message = new ChatMessage();
+        message.setSenderId(1);
+        message.setRecipientId(2);
+        message.setSenderNickName("one");
+        message.setRecipientNickName("two");
+        message.setRoomKey("1-2");
+        message.setContent(content);
+        return message;
+    }
+
+    // insertMessages 로 받은 행을 쌓고 LAST_INSERT_ID 를 흉내 냄 (insertNanos 만큼 INSERT 가 걸림)
+    static class FakeDatabase {
+        final MessageMapper mapper = mock(MessageMapper.class);
+        final List<ChatMessage> stored = new CopyOnWriteArrayList<>();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final AtomicLong nextId = new AtomicLong(1);
+        volatile long lastFirstId;
+        volatile boolean down;
+        volatile long insertNanos;
+
+        FakeDatabase() {
+            when(mapper.selectAutoIncrementIncrement()).thenReturn(1);
+            doAnswer(invocation -> {
+                if (down) {
+                    throw new IllegalStateException("database down");
+                }
+                if (insertNanos > 0) {
+                    LockSupport.parkNanos(insertNanos);
+                }
+                List<ChatMessage> batch = invocation.getArgument(0);
+                batchSizes.add(batch.size());
+                lastFirstId = nextId.getAndAdd(batch.size());
+                stored.addAll(batch);
+                return null;
+            }).when(mapper).insertMessages(anyList(), any());
+            when(mapper.selectLastInsertId()).thenAnswer(invocation -> lastFirstId);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatHistoryPage;
+import com.backend.domain.chat.ChatMessage;
+import com.backend.mapper.chat.MessageMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// 전송 경로는 DB/flush 를 건드리지 않고, 로딩은 조회 쪽에서만
+class ChatRecentBufferTest {
+
+    private final MessageMapper mapper = mock(MessageMapper.class);
+    private final ChatMessageWriter writer = mock(ChatMessageWriter.class);
+    private final List<ChatMessage> queued = new ArrayList<>();
+    private final ChatRecentBuffer buffer =
+            new ChatRecentBuffer(mapper, writer, new SimpleMeterRegistry(), 200, 100_000, "local");
+
+    @Test
+    void sendToUnloadedRoomOnlyEnqueues() {
+        assertThat(buffer.append(message(null, "a"), queued::add)).isTrue();
+
+        assertThat(queued).hasSize(1);
+        verifyNoInteractions(mapper, writer);
+    }
+
+    @Test
+    void firstReadFlushesThenLoadsAndLaterSendsAreBuffered() {
+        when(writer.flushNow()).thenReturn(true);
+        when(mapper.selectRoomPage(eq("1-2"), any(), anyInt())).thenReturn(List.of(message(1, "old")));
+
+        ChatHistoryPage first = buffer.page("1-2", null, 50);
+        buffer.append(message(null, "new"), queued::add);
+        ChatHistoryPage second = buffer.page("1-2", null, 50);
+
+        assertThat(first.messages()).extracting(ChatMessage::getContent).containsExactly("old");
+        assertThat(second.messages()).extracting(ChatMessage::getContent).containsExactly("old", "new");
+        verify(writer, times(1)).flushNow();
+        verify(mapper, times(1)).selectRoomPage(eq("1-2"), any(), anyInt());
+    }
+
+    // flush 가 끝난 뒤 로딩 전에 들어온 전송은 DB 에 없을 수 있음 → 한 번 더 flush 하고 로딩
+    @Test
+    void sendBetweenFlushAndLoadTriggersAnotherFlush() {
+        when(writer.flushNow()).thenAnswer(invocation -> {
+            if (queued.isEmpty()) {
+                buffer.append(message(null, "racing"), queued::add);
+            }
+            return true;
+        });
+        when(mapper.selectRoomPage(eq("1-2"), any(), anyInt())).thenReturn(List.of(message(1, "racing")));
+
+        ChatHistoryPage page = buffer.page("1-2", null, 50);
+
+        assertThat(page.messages()).extracting(ChatMessage::getContent).containsExactly("racing");
+        verify(writer, times(2)).flushNow();
+    }
+
+    @Test
+    void readFallsBackToDatabaseWhenFlushFails() {
+        when(writer.flushNow()).thenReturn(false);
+
+        assertThat(buffer.page("1-2", null, 50)).isNull();
+        verify(mapper, never()).selectRoomPage(any(), any(), anyInt());
+    }
+
+    private static ChatMessage message(Integer id, String content) {
+        ChatMessage message = ChatMessageWriterTest.message(content);
+        message.setId(id);
+        return message;
+    }
+}
@@ -0,0 +1,109 @@
+package com.backend.service.chat;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ./gradlew benchmark: 초당 1만 건을 보내는 동안 저장 스레드가 배치로 따라가는지, 큐가 한도 안에 머무는지.
+ * - DB 는 INSERT 한 번(배치 하나)에 DB_ROUND_TRIP_NANOS 가 걸리는 mock, 로그는 켜고 fsync 도 함 (기본 설정과 같게)
+ * - 보내는 속도(sendMsgPerSecond)가 목표보다 낮으면 fsync 대기 때문 (디스크마다 다름), 저장 쪽은 drainMs / maxQueue 로 봄
+ */
+@Tag("benchmark")
+class ChatWriterThroughputBenchmark {
+
+    private static final long DB_ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final int RATE_PER_SECOND = 10_000;
+    private static final int SECONDS = 3;
+    private static final int SENDERS = 8;
+    private static final int CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsUpWithTenThousandMessagesPerSecond(TestReporter reporter) throws Exception {
+        ChatMessageWriterTest.FakeDatabase db = new ChatMessageWriterTest.FakeDatabase();
+        db.insertNanos = DB_ROUND_TRIP_NANOS;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChatMessageWriter writer = new ChatMessageWriter(db.mapper, mock(PlatformTransactionManager.class), registry,
+                JsonMapper.builder().findAndAddModules().build(),
+                true, dir.toString(), 64 * 1024 * 1024, true, "bench",
+                CAPACITY, BATCH_SIZE, 200, 1_000, 1_000);
+        writer.start();
+
+        // 큐 길이를 1ms 마다 확인
+        AtomicInteger maxQueue = new AtomicInteger();
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                int size = (int) registry.get("chat.writer.queue.size").gauge().value();
+                maxQueue.accumulateAndGet(size, Math::max);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+
+        int total = RATE_PER_SECOND * SECONDS;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * SENDERS / RATE_PER_SECOND;
+        long start = System.nanoTime();
+        long sent;
+        long drained;
+        long[] sendLatencies;
+        try {
+            // 보내는 스레드마다 정해진 간격으로 (밀리면 따라잡음)
+            sendLatencies = ChatMessageLogBenchmark.concurrently(SENDERS, total / SENDERS, new ChatMessageLogBenchmark.Operation() {
+                private final ThreadLocal<long[]> next = ThreadLocal.withInitial(() -> new long[]{System.nanoTime()});
+
+                @Override
+                public void run() {
+                    long[] due = next.get();
+                    long wait = due[0] - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    due[0] += intervalNanos;
+                    if (!writer.enqueue(ChatMessageWriterTest.message("hello"))) {
+                        throw new IllegalStateException("rejected");
+                    }
+                }
+            });
+            sent = System.nanoTime();
+            assertThat(writer.flushNow()).isTrue(); // 보내기가 끝난 뒤 남은 것 (저장이 밀렸다면 여기서 길어짐)
+            drained = System.nanoTime();
+        } finally {
+            sampler.interrupt();
+            writer.stop();
+        }
+        long drainMs = (drained - sent) / 1_000_000;
+        double sendSeconds = (sent - start) / 1e9;
+        long batches = registry.timer("chat.writer.batch").count();
+
+        reporter.publishEntry("chatWriter.sent", String.valueOf(total));
+        reporter.publishEntry("chatWriter.sendMsgPerSecond", String.valueOf(Math.round(total / sendSeconds)));
+        reporter.publishEntry("chatWriter.drainMs", String.valueOf(drainMs));
+        reporter.publishEntry("chatWriter.batches", String.valueOf(batches));
+        reporter.publishEntry("chatWriter.avgBatch", String.valueOf(total / Math.max(1, batches)));
+        reporter.publishEntry("chatWriter.maxQueue", String.valueOf(maxQueue.get()));
+        reporter.publishEntry("chatWriter.send.p99us",
+                String.valueOf(ChatMessageLogBenchmark.percentile(sendLatencies, 99) / 1_000));
+
+        assertThat(db.stored).hasSize(total);
+        assertThat(registry.counter("chat.writer.rejected").count()).isZero();
+        assertThat(batches).isLessThan(total / 10); // 메시지마다 INSERT 하지 않음
+        assertThat(maxQueue.get()).isLessThan(CAPACITY / 2);
+    }
+}
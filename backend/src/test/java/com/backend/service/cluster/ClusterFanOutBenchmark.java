@@ -0,0 +1,65 @@
+package com.backend.service.cluster;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * ./gradlew benchmark: localhost 노드 3개에서 발행 → 다른 노드 구독자까지 걸린 시간.
+ * - node0 이 발행, node1/node2 가 ROOM 구독, OTHER 는 node1 만 구독 (node2 로는 가지 않아야 함)
+ * - payload 는 발행 시각(System.nanoTime, 같은 JVM 이라 비교 가능)
+ */
+@Tag("benchmark")
+class ClusterFanOutBenchmark {
+
+    private static final String ROOM = "/topic/chatroom/bench";
+    private static final String OTHER = "/topic/chatroom/other";
+    private static final int MESSAGES = 10_000;
+    private static final long PUBLISH_INTERVAL_NANOS = 50_000; // 초당 약 2만 건 이하
+
+    @Test
+    void fanOutLatencyAcrossThreeNodes(TestReporter reporter) throws Exception {
+        try (TcpTestCluster cluster = TcpTestCluster.start(3, 100_000)) {
+            cluster.subscribe(1, ROOM, 0);
+            cluster.subscribe(2, ROOM, 0);
+            cluster.subscribe(1, OTHER, 0);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                cluster.publish(0, ROOM, Long.toString(System.nanoTime()));
+                cluster.publish(0, OTHER, Long.toString(System.nanoTime()));
+                LockSupport.parkNanos(PUBLISH_INTERVAL_NANOS);
+            }
+            await().atMost(Duration.ofSeconds(30)).until(() ->
+                    cluster.messages(1).size() == 2 * MESSAGES && cluster.messages(2).size() == MESSAGES);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            for (int node = 1; node <= 2; node++) {
+                long[] latencies = latencies(cluster.messages(node), ROOM);
+                reporter.publishEntry("node" + node + ".p50us", String.valueOf(latencies[latencies.length / 2] / 1_000));
+                reporter.publishEntry("node" + node + ".p99us", String.valueOf(latencies[latencies.length * 99 / 100] / 1_000));
+                reporter.publishEntry("node" + node + ".maxUs", String.valueOf(latencies[latencies.length - 1] / 1_000));
+            }
+            reporter.publishEntry("published", String.valueOf(2 * MESSAGES));
+            reporter.publishEntry("elapsedMs", String.valueOf(elapsedMs));
+
+            assertThat(cluster.messages(2)).allMatch(r -> r.destination().equals(ROOM));
+            assertThat(cluster.messages(0)).isEmpty();
+        }
+    }
+
+    private static long[] latencies(List<TcpTestCluster.Received> received, String destination) {
+        return received.stream()
+                .filter(r -> r.destination().equals(destination))
+                .mapToLong(r -> r.receivedNanos() - Long.parseLong(r.payload()))
+                .sorted()
+                .toArray();
+    }
+}
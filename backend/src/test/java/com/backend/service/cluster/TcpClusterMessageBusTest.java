@@ -0,0 +1,86 @@
+package com.backend.service.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// localhost 의 노드 3개 (node0, node1, node2): 구독자가 있는 노드로만 전달되는지
+// 같은 연결로 나중에 보낸 메시지(marker)가 도착하면 그 앞의 메시지도 이미 도착했어야 함 → "안 온 것" 확인에 사용
+class TcpClusterMessageBusTest {
+
+    private static final String ROOM_A = "/topic/chatroom/1-2";
+    private static final String ROOM_B = "/topic/chatroom/3-4";
+    private static final String SYNC = "/topic/chatroom/5-6";
+
+    private TcpTestCluster cluster;
+
+    @BeforeEach
+    void startNodes() throws Exception {
+        cluster = TcpTestCluster.start(3, 1_000);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        cluster.close();
+    }
+
+    @Test
+    void messageReachesOnlyNodesWithSubscribers() {
+        cluster.subscribe(1, ROOM_A, 0);
+        cluster.subscribe(2, ROOM_B, 0);
+
+        cluster.publish(0, ROOM_A, "for-room-a");
+        cluster.publish(0, ROOM_B, "for-room-b");
+        cluster.publish(0, ROOM_A, "marker");
+        cluster.publish(0, ROOM_B, "marker");
+
+        awaitMessages(1, 2);
+        awaitMessages(2, 2);
+        assertThat(cluster.messages(1)).extracting(TcpTestCluster.Received::payload).containsExactly("for-room-a", "marker");
+        assertThat(cluster.messages(1)).allMatch(r -> r.destination().equals(ROOM_A));
+        assertThat(cluster.messages(2)).extracting(TcpTestCluster.Received::payload).containsExactly("for-room-b", "marker");
+        assertThat(cluster.messages(0)).isEmpty();
+    }
+
+    @Test
+    void publisherDoesNotReceiveItsOwnMessage() {
+        cluster.subscribe(0, ROOM_A, 1);
+        cluster.subscribe(1, ROOM_A, 0);
+
+        cluster.publish(1, ROOM_A, "from-node1");
+        cluster.publish(0, ROOM_A, "marker");
+
+        awaitMessages(0, 1);
+        awaitMessages(1, 1);
+        assertThat(cluster.messages(0)).extracting(TcpTestCluster.Received::payload).containsExactly("from-node1");
+        assertThat(cluster.messages(1)).extracting(TcpTestCluster.Received::payload).containsExactly("marker");
+    }
+
+    // 마지막 구독자가 사라지면 그 노드로는 더 보내지 않음
+    // node1 → node0 연결로 관심 삭제 다음에 보낸 메시지가 node0 에 오면 삭제도 이미 반영된 것
+    @Test
+    void removedInterestStopsDelivery() {
+        cluster.subscribe(1, ROOM_A, 0);
+        cluster.subscribe(1, ROOM_B, 0);
+        cluster.subscribe(0, SYNC, 1);
+
+        cluster.nodes.get(1).interestChanged(ROOM_A, false);
+        cluster.publish(1, SYNC, "removed");
+        awaitMessages(0, 1);
+
+        cluster.publish(0, ROOM_A, "dropped");
+        cluster.publish(0, ROOM_B, "marker");
+
+        awaitMessages(1, 1);
+        assertThat(cluster.messages(1)).extracting(TcpTestCluster.Received::payload).containsExactly("marker");
+    }
+
+    private void awaitMessages(int node, int count) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> cluster.messages(node).size() >= count);
+    }
+}
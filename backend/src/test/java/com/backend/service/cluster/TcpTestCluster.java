@@ -0,0 +1,94 @@
+package com.backend.service.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// localhost 에서 TcpClusterMessageBus 여러 개를 띄우고 노드별로 받은 메시지를 모음 (probe 로 시작하는 payload 는 준비 확인용)
+class TcpTestCluster implements AutoCloseable {
+
+    private static final String PROBE = "probe";
+
+    record Received(String destination, String payload, long receivedNanos) {
+    }
+
+    final List<TcpClusterMessageBus> nodes = new ArrayList<>();
+    final List<Queue<Received>> received = new ArrayList<>();
+    private final List<SimpleMeterRegistry> registries = new ArrayList<>();
+
+    static TcpTestCluster start(int count, int queueCapacity) throws IOException {
+        int[] ports = new int[count];
+        for (int i = 0; i < count; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                ports[i] = socket.getLocalPort();
+            }
+        }
+        TcpTestCluster cluster = new TcpTestCluster();
+        for (int i = 0; i < count; i++) {
+            int self = i;
+            String peers = IntStream.range(0, count)
+                    .filter(j -> j != self)
+                    .mapToObj(j -> "node" + j + "@localhost:" + ports[j])
+                    .collect(Collectors.joining(","));
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            TcpClusterMessageBus bus = new TcpClusterMessageBus(registry, "node" + i, ports[i], peers, "secret", queueCapacity);
+            Queue<Received> inbox = new ConcurrentLinkedQueue<>();
+            bus.setListener((destination, contentType, payload) -> inbox.add(
+                    new Received(destination, new String(payload, StandardCharsets.UTF_8), System.nanoTime())));
+            cluster.registries.add(registry);
+            cluster.nodes.add(bus);
+            cluster.received.add(inbox);
+        }
+        for (TcpClusterMessageBus bus : cluster.nodes) {
+            bus.start();
+        }
+        cluster.awaitConnected();
+        return cluster;
+    }
+
+    // 모든 노드가 나머지 노드 전부에 연결될 때까지 (처음 연결 실패 시 재연결 간격 2초)
+    private void awaitConnected() {
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> {
+            for (SimpleMeterRegistry registry : registries) {
+                assertThat(registry.get("cluster.peer.connected").gauge().value()).isEqualTo(nodes.size() - 1);
+            }
+        });
+    }
+
+    // to 노드의 관심이 from 노드에 전달될 때까지 probe 를 보내 봄
+    void subscribe(int to, String destination, int... from) {
+        nodes.get(to).interestChanged(destination, true);
+        for (int sender : from) {
+            await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(20)).untilAsserted(() -> {
+                publish(sender, destination, PROBE);
+                assertThat(received.get(to)).anyMatch(r -> r.destination().equals(destination) && r.payload().equals(PROBE));
+            });
+        }
+    }
+
+    void publish(int from, String destination, String payload) {
+        nodes.get(from).publish(destination, "application/json", payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // probe 를 뺀 받은 메시지
+    List<Received> messages(int node) {
+        return received.get(node).stream().filter(r -> !r.payload().startsWith(PROBE)).toList();
+    }
+
+    @Override
+    public void close() {
+        nodes.forEach(TcpClusterMessageBus::stop);
+    }
+}
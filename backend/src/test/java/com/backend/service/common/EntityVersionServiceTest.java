@@ -0,0 +1,67 @@
+package com.backend.service.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityVersionServiceTest {
+
+    // 조회수 변경은 첫 번째만 바로 반영, 그 뒤로는 coarse-interval 동안 목록 재검증이 304
+    @Test
+    void viewCountsReachTheListEtagAtMostOncePerInterval() {
+        EntityVersionService versions = new EntityVersionService(60);
+        String etag = revalidate(versions, null, EntityVersionService.BOARD_LIST, EntityVersionService.BOARD_VIEWS);
+
+        versions.touchCoarse(EntityVersionService.BOARD_VIEWS);
+        String afterFirstView = revalidate(versions, etag, EntityVersionService.BOARD_LIST, EntityVersionService.BOARD_VIEWS);
+        assertThat(afterFirstView).isNotEqualTo(etag);
+
+        versions.touchCoarse(EntityVersionService.BOARD_VIEWS);
+        assertThat(notModified(versions, afterFirstView, EntityVersionService.BOARD_LIST, EntityVersionService.BOARD_VIEWS))
+                .isTrue();
+    }
+
+    @Test
+    void withoutIntervalEveryViewChangesTheListEtag() {
+        EntityVersionService versions = new EntityVersionService(0);
+        versions.touchCoarse(EntityVersionService.BOARD_VIEWS);
+        String etag = revalidate(versions, null, EntityVersionService.BOARD_VIEWS);
+
+        versions.touchCoarse(EntityVersionService.BOARD_VIEWS);
+
+        assertThat(notModified(versions, etag, EntityVersionService.BOARD_VIEWS)).isFalse();
+    }
+
+    @Test
+    void touchingOneMemberKeepsOtherMembersNotModified() {
+        EntityVersionService versions = new EntityVersionService(60);
+        String other = revalidate(versions, null, EntityVersionService.member(2));
+        String own = revalidate(versions, null, EntityVersionService.member(1));
+
+        versions.touch(EntityVersionService.member(1));
+
+        assertThat(notModified(versions, other, EntityVersionService.member(2))).isTrue();
+        assertThat(notModified(versions, own, EntityVersionService.member(1))).isFalse();
+    }
+
+    private static boolean notModified(EntityVersionService versions, String etag, String... keys) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        return versions.checkNotModified(new ServletWebRequest(request, new MockHttpServletResponse()), keys);
+    }
+
+    // 응답에 실린 ETag
+    private static String revalidate(EntityVersionService versions, String etag, String... keys) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        if (etag != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        versions.checkNotModified(new ServletWebRequest(request, response), keys);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+}
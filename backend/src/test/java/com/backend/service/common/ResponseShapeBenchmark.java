@@ -0,0 +1,222 @@
+package com.backend.service.common;
+
+import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardPage;
+import com.backend.domain.common.PageInfo;
+import com.backend.domain.diary.DiaryComment;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew benchmark: 목록 응답을 Map 대신 record 로 만들 때, /all 을 List 대신 스트리밍할 때의 시간 / 할당량.
+ * - 할당량은 측정 스레드의 getThreadAllocatedBytes 차이 (JIT 워밍업 후)
+ * - 출력은 버리는 OutputStream (쓸 때마다 새로, Jackson 이 닫음) → 네트워크 전송 제외, 응답 객체 생성 + 직렬화만 측정
+ */
+@Tag("benchmark")
+class ResponseShapeBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGE_OPS = 50_000;
+    private static final int ALL_ROWS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // 운영과 같게 기본 필터 등록 (Board 의 @JsonFilter)
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .filterProvider(SparseFields.DEFAULT_FILTERS)
+            .build();
+
+    @Test
+    void recordPageEnvelopeAgainstMap(TestReporter reporter) throws Exception {
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boards.add(board(i));
+        }
+        // 응답 모양이 그대로인지 먼저 확인 (prev 있음 / next 없음)
+        JsonNode recordJson = objectMapper.valueToTree(recordPage(12, boards));
+        JsonNode mapJson = objectMapper.valueToTree(mapPage(12, boards));
+        assertThat(recordJson).isEqualTo(mapJson);
+
+        IntFunction<Object> map = page -> mapPage(page, boards);
+        IntFunction<Object> record = page -> recordPage(page, boards);
+        measure(map, PAGE_OPS);
+        measure(record, PAGE_OPS);
+        long[] mapCost = measure(map, PAGE_OPS);
+        long[] recordCost = measure(record, PAGE_OPS);
+
+        reporter.publishEntry("page.map.nsPerOp", String.valueOf(mapCost[0]));
+        reporter.publishEntry("page.map.bytesPerOp", String.valueOf(mapCost[1]));
+        reporter.publishEntry("page.record.nsPerOp", String.valueOf(recordCost[0]));
+        reporter.publishEntry("page.record.bytesPerOp", String.valueOf(recordCost[1]));
+        assertThat(recordCost[1]).isLessThanOrEqualTo(mapCost[1]);
+    }
+
+    @Test
+    void streamedAllAgainstMaterializedList(TestReporter reporter) throws Exception {
+        JsonArrayStreamer streamer = new JsonArrayStreamer(objectMapper);
+
+        // 워밍업
+        streamer.writeArray(rows(ALL_ROWS / 10, null), OutputStream.nullOutputStream());
+        objectMapper.writeValue(OutputStream.nullOutputStream(), materialize(ALL_ROWS / 10));
+
+        // 시간 / 할당량
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        streamer.writeArray(rows(ALL_ROWS, null), OutputStream.nullOutputStream());
+        long streamNs = System.nanoTime() - start;
+        long streamBytes = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+
+        // 기존 방식: 전부 List 로 받은 뒤 한 번에 직렬화
+        allocated = THREADS.getCurrentThreadAllocatedBytes();
+        start = System.nanoTime();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), materialize(ALL_ROWS));
+        long listNs = System.nanoTime() - start;
+        long listBytes = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+
+        // 남아 있는 힙: 스트리밍은 반쯤 썼을 때 (Cursor 처럼 한 행씩 만들고 버림), List 는 다 모았을 때
+        long baseline = usedHeap();
+        long[] streamHeap = new long[1];
+        streamer.writeArray(rows(ALL_ROWS, () -> streamHeap[0] = usedHeap()), OutputStream.nullOutputStream());
+        List<DiaryComment> list = materialize(ALL_ROWS);
+        long listHeap = usedHeap();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), list);
+
+        long streamRetainedMb = Math.max(0, streamHeap[0] - baseline) / (1024 * 1024);
+        long listRetainedMb = Math.max(0, listHeap - baseline) / (1024 * 1024);
+
+        reporter.publishEntry("all.rows", String.valueOf(ALL_ROWS));
+        reporter.publishEntry("all.stream.ms", String.valueOf(streamNs / 1_000_000));
+        reporter.publishEntry("all.stream.allocatedMb", String.valueOf(streamBytes / (1024 * 1024)));
+        reporter.publishEntry("all.stream.retainedMb", String.valueOf(streamRetainedMb));
+        reporter.publishEntry("all.list.ms", String.valueOf(listNs / 1_000_000));
+        reporter.publishEntry("all.list.allocatedMb", String.valueOf(listBytes / (1024 * 1024)));
+        reporter.publishEntry("all.list.retainedMb", String.valueOf(listRetainedMb));
+        assertThat(streamRetainedMb).isLessThan(Math.max(1, listRetainedMb / 10));
+    }
+
+    // {평균 ns, 평균 할당 바이트} (응답 객체 생성 + 직렬화)
+    private long[] measure(IntFunction<Object> response, int ops) throws IOException {
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), response.apply(1 + i % 30));
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        return new long[]{nanos / ops, bytes / ops};
+    }
+
+    // 08eeebc 이전 BoardService.list 가 만들던 모양
+    private static Map<String, Object> mapPage(int page, List<Board> boardList) {
+        Map<String, Object> pageInfo = new HashMap<>();
+        pageInfo.put("currentPageNumber", page);
+        Integer lastPageNumber = 12;
+        Integer leftPageNumber = (page - 1) / 10 * 10 + 1;
+        Integer rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
+        Integer prevPageNumber = (leftPageNumber > 1) ? leftPageNumber - 1 : null;
+        Integer nextPageNumber = (rightPageNumber < lastPageNumber) ? rightPageNumber + 1 : null;
+        if (prevPageNumber != null) {
+            pageInfo.put("prevPageNumber", prevPageNumber);
+        }
+        if (nextPageNumber != null) {
+            pageInfo.put("nextPageNumber", nextPageNumber);
+        }
+        pageInfo.put("lastPageNumber", lastPageNumber);
+        pageInfo.put("leftPageNumber", leftPageNumber);
+        pageInfo.put("rightPageNumber", rightPageNumber);
+        pageInfo.put("offset", (page - 1) * PAGE_SIZE);
+        return Map.of("pageInfo", pageInfo, "boardList", boardList);
+    }
+
+    // BoardService.pageInfo 와 같은 계산
+    private static BoardPage recordPage(int page, List<Board> boardList) {
+        int lastPageNumber = 12;
+        int leftPageNumber = (page - 1) / 10 * 10 + 1;
+        int rightPageNumber = Math.min(leftPageNumber + 9, lastPageNumber);
+        Integer prevPageNumber = (leftPageNumber > 1) ? leftPageNumber - 1 : null;
+        Integer nextPageNumber = (rightPageNumber < lastPageNumber) ? rightPageNumber + 1 : null;
+        return new BoardPage(new PageInfo(page, prevPageNumber, nextPageNumber,
+                lastPageNumber, leftPageNumber, rightPageNumber, (page - 1) * PAGE_SIZE), boardList);
+    }
+
+    private static Board board(int i) {
+        Board board = new Board();
+        board.setId(i);
+        board.setTitle("제목 " + i);
+        board.setContent("본문 요약 ".repeat(10));
+        board.setWriter("writer" + i);
+        board.setMemberId(i);
+        board.setInserted(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(i));
+        board.setViews(i * 3);
+        board.setBoardType("자유");
+        board.setNumberOfImages(0);
+        board.setNumberOfComments(i % 5);
+        board.setNumberOfLikes(i % 7);
+        return board;
+    }
+
+    private static DiaryComment comment(int i) {
+        DiaryComment comment = new DiaryComment();
+        comment.setId(i);
+        comment.setDiaryId(1);
+        comment.setOwnerId(1);
+        comment.setMemberId(i % 1000);
+        comment.setComment("방명록 댓글 " + i);
+        comment.setNickname("nick" + (i % 1000));
+        comment.setInserted(LocalDateTime.of(2026, 1, 1, 0, 0).plusSeconds(i));
+        return comment;
+    }
+
+    private static List<DiaryComment> materialize(int count) {
+        List<DiaryComment> list = new ArrayList<>();
+        for (DiaryComment comment : rows(count, null)) {
+            list.add(comment);
+        }
+        return list;
+    }
+
+    // Cursor 처럼 next() 때마다 새 행, 절반을 넘길 때 halfway 실행
+    private static Iterable<DiaryComment> rows(int count, Runnable halfway) {
+        return () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public DiaryComment next() {
+                if (next == count / 2 && halfway != null) {
+                    halfway.run();
+                }
+                return comment(next++);
+            }
+        };
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
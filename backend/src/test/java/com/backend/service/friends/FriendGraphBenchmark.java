@@ -0,0 +1,114 @@
+package com.backend.service.friends;
+
+import com.backend.domain.friends.FriendEdge;
+import com.backend.mapper.friends.FriendsMapper;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ./gradlew benchmark: 회원 100만, 간선 5천만 (회원마다 친구 50명) 그래프 적재 / 조회 / 수정 비용.
+ * - scanEdges 는 DB 대신 정렬된 간선을 바로 넘기는 mock (DB 전송 시간 제외, 적재 코드만 측정)
+ * - 힙이 1GB 이상 필요 (간선 5천만 × int 4바이트 = 200MB + 적재 중 버퍼)
+ */
+@Tag("benchmark")
+class FriendGraphBenchmark {
+
+    private static final int MEMBERS = 1_000_000;
+    private static final int DEGREE = 50;
+    private static final int LOOKUPS = 5_000_000;
+
+    @Test
+    void millionMembersFiftyMillionEdges(TestReporter reporter) {
+        FriendsMapper mapper = mock(FriendsMapper.class);
+        doAnswer(invocation -> {
+            streamEdges(invocation.getArgument(0));
+            return null;
+        }).when(mapper).scanEdges(any());
+        FriendGraph graph = new FriendGraph(mapper, "local");
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        graph.load();
+        long loadMs = (System.nanoTime() - start) / 1_000_000;
+        long heapMb = (usedHeap() - heapBefore) / (1024 * 1024);
+        assertThat(graph.isLoaded()).isTrue();
+        assertThat(graph.friendCount(MEMBERS - 1)).isEqualTo(DEGREE);
+
+        SplittableRandom random = new SplittableRandom(7);
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS / 10; i++) { // 워밍업
+            hits += graph.areFriends(random.nextInt(MEMBERS), random.nextInt(MEMBERS)) ? 1 : 0;
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            int member = random.nextInt(MEMBERS);
+            // 절반은 실제 친구, 절반은 임의의 회원
+            int friend = (i & 1) == 0 ? graph.friendsOf(member)[i % DEGREE] : random.nextInt(MEMBERS);
+            hits += graph.areFriends(member, friend) ? 1 : 0;
+        }
+        long areFriendsNs = (System.nanoTime() - start) / LOOKUPS;
+
+        start = System.nanoTime();
+        long mutual = 0;
+        for (int i = 0; i < LOOKUPS / 10; i++) {
+            mutual += graph.mutualCount(random.nextInt(MEMBERS), random.nextInt(MEMBERS));
+        }
+        long mutualNs = (System.nanoTime() - start) / (LOOKUPS / 10);
+
+        // 없는 간선만 추가 후 삭제 (원래 그래프는 그대로)
+        int updates = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            int member = random.nextInt(MEMBERS);
+            int friend = random.nextInt(MEMBERS);
+            if (!graph.areFriends(member, friend)) {
+                graph.add(member, friend);
+                graph.remove(member, friend);
+                updates++;
+            }
+        }
+        long updateNs = (System.nanoTime() - start) / (updates * 2L);
+
+        reporter.publishEntry("friendGraph.edges", String.valueOf((long) MEMBERS * DEGREE));
+        reporter.publishEntry("friendGraph.loadMs", String.valueOf(loadMs));
+        reporter.publishEntry("friendGraph.heapMb", String.valueOf(heapMb));
+        reporter.publishEntry("friendGraph.areFriends.nsPerOp", String.valueOf(areFriendsNs));
+        reporter.publishEntry("friendGraph.mutualCount.nsPerOp", String.valueOf(mutualNs));
+        reporter.publishEntry("friendGraph.addOrRemove.nsPerOp", String.valueOf(updateNs));
+        assertThat(hits).isGreaterThanOrEqualTo(LOOKUPS / 2);
+        assertThat(mutual).isGreaterThanOrEqualTo(0);
+        assertThat(graph.friendCount(MEMBERS - 1)).isEqualTo(DEGREE);
+    }
+
+    // member_id, friend_id 순으로 정렬된 간선, FriendEdge 하나를 재사용
+    // friend 는 id 범위를 50 구간으로 나눠 구간마다 임의로 한 명 → 중복 없이 정렬된 순서
+    private static void streamEdges(ResultHandler<FriendEdge> handler) {
+        FriendEdge edge = new FriendEdge();
+        ResultContext<FriendEdge> context = FriendGraphTest.context(edge);
+        SplittableRandom random = new SplittableRandom(42);
+        int span = MEMBERS / DEGREE;
+        for (int member = 0; member < MEMBERS; member++) {
+            edge.setMemberId(member);
+            for (int k = 0; k < DEGREE; k++) {
+                edge.setFriendId(k * span + random.nextInt(span));
+                handler.handleResult(context);
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,141 @@
+package com.backend.service.friends;
+
+import com.backend.domain.friends.FriendEdge;
+import com.backend.mapper.friends.FriendsMapper;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FriendGraphTest {
+
+    private final FriendsMapper mapper = mock(FriendsMapper.class);
+
+    @Test
+    void loadBuildsSortedRowsAndSkipsDuplicateEdges() {
+        FriendGraph graph = loaded("local", 1, 3, 1, 3, 1, 5, 2, 1, 7, 1);
+
+        assertThat(graph.isLoaded()).isTrue();
+        assertThat(graph.friendsOf(1)).containsExactly(3, 5);
+        assertThat(graph.friendCount(7)).isEqualTo(1);
+        assertThat(graph.friendsOf(4)).isEmpty();
+        assertThat(graph.areFriends(1, 5)).isTrue();
+        assertThat(graph.areFriends(5, 1)).isFalse(); // friends 테이블처럼 방향 있음
+        verify(mapper, never()).checkFriendship(anyInt(), anyInt());
+    }
+
+    @Test
+    void addAndRemoveKeepRowsSortedAndLeaveReturnedArraysUntouched() {
+        FriendGraph graph = loaded("local", 1, 3, 1, 5);
+        int[] before = graph.friendsOf(1);
+
+        graph.add(1, 4);
+        graph.add(1, 4);
+        graph.remove(1, 3);
+        graph.remove(1, 9);
+
+        assertThat(graph.friendsOf(1)).containsExactly(4, 5);
+        assertThat(before).containsExactly(3, 5);
+    }
+
+    // 적재 때 본 가장 큰 id 보다 큰 회원도 추가 가능
+    @Test
+    void addGrowsTheTableForNewMembers() {
+        FriendGraph graph = loaded("local", 1, 2);
+
+        graph.add(50_000, 1);
+
+        assertThat(graph.friendsOf(50_000)).containsExactly(1);
+        assertThat(graph.areFriends(50_000, 1)).isTrue();
+    }
+
+    @Test
+    void mutualCountMergesSortedRows() {
+        FriendGraph graph = loaded("local", 1, 2, 1, 3, 1, 4, 5, 3, 5, 4, 5, 6);
+
+        assertThat(graph.mutualCount(1, 5)).isEqualTo(2);
+        assertThat(graph.mutualCount(1, 9)).isZero();
+    }
+
+    @Test
+    void beforeLoadFriendChecksGoToTheDatabase() {
+        FriendGraph graph = new FriendGraph(mapper, "local");
+        when(mapper.checkFriendship(1, 2)).thenReturn(1);
+
+        assertThat(graph.areFriends(1, 2)).isTrue();
+        verify(mapper).checkFriendship(1, 2);
+    }
+
+    @Test
+    void failedLoadKeepsUsingTheDatabase() {
+        doThrow(new IllegalStateException("connection lost")).when(mapper).scanEdges(any());
+        FriendGraph graph = new FriendGraph(mapper, "local");
+        graph.load();
+
+        assertThat(graph.isLoaded()).isFalse();
+        assertThat(graph.isAuthoritative()).isFalse();
+        graph.areFriends(1, 2);
+        verify(mapper).checkFriendship(1, 2);
+    }
+
+    // tcp: 다른 노드 변경이 안 보이므로 친구 여부는 DB, 추천용 조회는 그래프
+    @Test
+    void tcpModeChecksFriendshipInTheDatabase() {
+        FriendGraph graph = loaded("tcp", 1, 2);
+
+        assertThat(graph.isLoaded()).isTrue();
+        assertThat(graph.isAuthoritative()).isFalse();
+        assertThat(graph.areFriends(1, 2)).isFalse();
+        verify(mapper).checkFriendship(1, 2);
+        assertThat(graph.friendsOf(1)).containsExactly(2);
+    }
+
+    // pairs: member_id, friend_id 반복 (정렬된 순서로)
+    private FriendGraph loaded(String clusterMode, int... pairs) {
+        doAnswer(invocation -> {
+            ResultHandler<FriendEdge> handler = invocation.getArgument(0);
+            for (int i = 0; i < pairs.length; i += 2) {
+                FriendEdge edge = new FriendEdge();
+                edge.setMemberId(pairs[i]);
+                edge.setFriendId(pairs[i + 1]);
+                handler.handleResult(context(edge));
+            }
+            return null;
+        }).when(mapper).scanEdges(any());
+        FriendGraph graph = new FriendGraph(mapper, clusterMode);
+        graph.load();
+        return graph;
+    }
+
+    static ResultContext<FriendEdge> context(FriendEdge edge) {
+        return new ResultContext<>() {
+            @Override
+            public FriendEdge getResultObject() {
+                return edge;
+            }
+
+            @Override
+            public int getResultCount() {
+                return 0;
+            }
+
+            @Override
+            public boolean isStopped() {
+                return false;
+            }
+
+            @Override
+            public void stop() {
+            }
+        };
+    }
+}
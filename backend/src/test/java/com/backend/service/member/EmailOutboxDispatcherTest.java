@@ -0,0 +1,145 @@
+package com.backend.service.member;
+
+import com.backend.domain.member.EmailOutbox;
+import com.backend.domain.member.MemberIdentity;
+import com.backend.mapper.member.EmailOutboxMapper;
+import com.backend.mapper.member.MemberMapper;
+import com.backend.service.common.EntityVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 매퍼는 mock, SMTP 는 테스트용 SmtpSink (실제 JavaMailSenderImpl 로 보냄)
+class EmailOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 6;
+    private static final long BASE_DELAY_SECONDS = 30;
+
+    private final EmailOutboxMapper outboxMapper = mock(EmailOutboxMapper.class);
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final EntityVersionService versionService = mock(EntityVersionService.class);
+    private final MemberCache memberCache = mock(MemberCache.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private SmtpSink smtp;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void startSmtp() throws IOException {
+        smtp = new SmtpSink();
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        smtp.close();
+    }
+
+    @Test
+    void sendsClaimedMailThenAppliesTemporaryPassword() throws Exception {
+        EmailOutbox reset = outbox(1L, "user1@test.com", "user1", "{bcrypt}hash", 0);
+        EmailOutbox notice = outbox(2L, "user2@test.com", null, null, 0);
+        claim(reset, notice);
+        MemberIdentity user1 = new MemberIdentity();
+        user1.setId(7);
+        when(memberCache.byUsername("user1")).thenReturn(user1);
+        dispatcher = dispatcher(smtpPort());
+
+        dispatcher.dispatch();
+
+        List<SmtpSink.Mail> received = smtp.received();
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).recipients()).containsExactly("user1@test.com");
+        assertThat(received.get(0).data()).contains("Subject: subject 1");
+
+        verify(memberMapper).updatePasswordByEmail("user1", "{bcrypt}hash");
+        verify(memberCache).evictUsername("user1");
+        verify(versionService).touch(EntityVersionService.member(7));
+        verify(outboxMapper).markSent(1L);
+        verify(outboxMapper).markSent(2L);
+        verify(outboxMapper, never()).markFailed(anyLong(), anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void failedSendBacksOffAndKeepsOldPassword() throws Exception {
+        EmailOutbox reset = outbox(1L, "user1@test.com", "user1", "{bcrypt}hash", 2);
+        claim(reset);
+        dispatcher = dispatcher(closedPort());
+
+        dispatcher.dispatch();
+
+        // 세 번째 시도 실패 → base-delay * 2^2
+        verify(outboxMapper).markFailed(eq(1L), anyString(), eq(BASE_DELAY_SECONDS * 4), eq(MAX_ATTEMPTS));
+        verify(outboxMapper, never()).markSent(anyLong());
+        verify(memberMapper, never()).updatePasswordByEmail(anyString(), anyString());
+        assertThat(smtp.received()).isEmpty();
+    }
+
+    @Test
+    void nothingClaimedSendsNothing() throws Exception {
+        when(outboxMapper.claim(anyString(), anyInt())).thenReturn(0);
+        dispatcher = dispatcher(smtpPort());
+
+        dispatcher.dispatch();
+
+        verify(outboxMapper, never()).selectClaimed(anyString());
+        assertThat(smtp.received()).isEmpty();
+    }
+
+    private void claim(EmailOutbox... rows) {
+        when(outboxMapper.claim(anyString(), anyInt())).thenReturn(rows.length);
+        when(outboxMapper.selectClaimed(anyString())).thenReturn(List.of(rows));
+    }
+
+    private EmailOutboxDispatcher dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return new EmailOutboxDispatcher(outboxMapper, memberMapper, versionService, memberCache, mailSender,
+                transactionManager, new SimpleMeterRegistry(), 2, 50, 10, MAX_ATTEMPTS, BASE_DELAY_SECONDS, 300);
+    }
+
+    private int smtpPort() {
+        return smtp.port();
+    }
+
+    // 열었다 닫은 포트 → 연결 거부
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static EmailOutbox outbox(Long id, String recipient, String username, String passwordHash, int attempts) {
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setId(id);
+        outbox.setRecipient(recipient);
+        outbox.setSubject("subject " + id);
+        outbox.setBody("body " + id);
+        outbox.setUsername(username);
+        outbox.setPasswordHash(passwordHash);
+        outbox.setStatus("SENDING");
+        outbox.setAttempts(attempts);
+        return outbox;
+    }
+}
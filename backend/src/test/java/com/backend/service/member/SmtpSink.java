@@ -0,0 +1,102 @@
+package com.backend.service.member;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 테스트용 최소 SMTP 서버: 받은 메일을 그대로 보관 (인증/TLS 없음, 연결은 하나씩 처리)
+class SmtpSink implements AutoCloseable {
+
+    record Mail(List<String> recipients, String data) {
+    }
+
+    private final ServerSocket server;
+    private final List<Mail> received = new CopyOnWriteArrayList<>();
+    private final Thread acceptor;
+
+    SmtpSink() throws IOException {
+        this.server = new ServerSocket(0);
+        this.acceptor = new Thread(this::serve, "smtp-sink");
+        this.acceptor.setDaemon(true);
+        this.acceptor.start();
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    List<Mail> received() {
+        return received;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    private void serve() {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                session(socket);
+            } catch (SocketException e) {
+                return; // close()
+            } catch (IOException e) {
+                // 다음 연결
+            }
+        }
+    }
+
+    private void session(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        reply(out, "220 smtp-sink");
+        List<String> recipients = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+            switch (command) {
+                case "RCPT" -> {
+                    recipients.add(line.substring(line.indexOf('<') + 1, line.lastIndexOf('>')));
+                    reply(out, "250 ok");
+                }
+                case "DATA" -> {
+                    reply(out, "354 end with .");
+                    received.add(new Mail(List.copyOf(recipients), readData(in)));
+                    recipients.clear();
+                    reply(out, "250 queued");
+                }
+                case "RSET" -> {
+                    recipients.clear();
+                    reply(out, "250 ok");
+                }
+                case "QUIT" -> {
+                    reply(out, "221 bye");
+                    return;
+                }
+                default -> reply(out, "250 ok"); // EHLO, HELO, MAIL, NOOP
+            }
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append('\n');
+        }
+        return data.toString();
+    }
+
+    private static void reply(PrintWriter out, String line) {
+        out.print(line + "\r\n");
+        out.flush();
+    }
+}
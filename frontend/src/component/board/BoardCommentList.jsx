@@ -1,8 +1,27 @@
 import { useEffect, useState } from "react";
 import axios from "@api/axiosConfig";
 import { Box } from "@chakra-ui/react";
+import SockJS from "sockjs-client";
+import { Client } from "@stomp/stompjs";
 import { BoardCommentItem } from "./BoardCommentItem.jsx";
 
+// /topic/board/{boardId}/comments 이벤트를 목록(id 오름차순)에 반영
+function applyCommentEvent(list, event) {
+  if (event.type === "ADD") {
+    if (list.some((c) => c.id === event.id)) {
+      return list; // 내가 쓴 댓글은 다시 불러온 목록에 이미 있음
+    }
+    return [...list, event.comment];
+  }
+  if (event.type === "UPDATE") {
+    return list.map((c) => (c.id === event.id ? event.comment : c));
+  }
+  if (event.type === "REMOVE") {
+    return list.filter((c) => c.id !== event.id);
+  }
+  return list;
+}
+
 export function BoardCommentList({ boardId, isProcessing, setIsProcessing }) {
   const [boardCommentList, setBoardCommentList] = useState([]);
   useEffect(() => {
@@ -19,6 +38,35 @@ export function BoardCommentList({ boardId, isProcessing, setIsProcessing }) {
         .finally(() => {});
     }
   }, [isProcessing]);
+
+  // 다른 사람이 단 댓글도 새로고침 없이 반영 (STOMP 연결은 로그인한 경우만 가능)
+  useEffect(() => {
+    const token = localStorage.getItem("accessToken");
+    if (!token) {
+      return;
+    }
+    const client = new Client({
+      webSocketFactory: () => new SockJS(`/ws`),
+      connectHeaders: {
+        Authorization: `Bearer ${token}`,
+      },
+      reconnectDelay: 5000,
+      onConnect: () => {
+        client.subscribe(`/topic/board/${boardId}/comments`, (message) => {
+          const event = JSON.parse(message.body);
+          setBoardCommentList((prev) => applyCommentEvent(prev, event));
+        });
+      },
+      onStompError: (frame) => {
+        console.error("Broker error: ", frame.headers["message"], frame.body);
+      },
+    });
+    client.activate();
+
+    return () => {
+      client.deactivate();
+    };
+  }, [boardId]);
   if (boardCommentList.length === 0) {
     return <Box>댓글이 없습니다</Box>;
   }
@@ -36,6 +36,9 @@ export function AIChat() {
     const socket = new SockJS("http://localhost:8080/ws");
     const client = new Client({
       webSocketFactory: () => socket,
+      connectHeaders: {
+        Authorization: `Bearer ${localStorage.getItem("accessToken")}`,
+      },
       reconnectDelay: 5000,
       onConnect: () => {
         console.log("Connected to WebSocket");
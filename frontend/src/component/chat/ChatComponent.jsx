@@ -10,6 +10,7 @@ import {
   InputGroup,
   InputRightElement,
   Text,
+  useToast,
   VStack,
 } from "@chakra-ui/react";
 import { ChatIcon, MinusIcon } from "@chakra-ui/icons";
@@ -24,10 +25,12 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
   const userId = memberInfo?.id;
   const [message, setMessage] = useState("");
   const [messages, setMessages] = useState([]);
+  const [before, setBefore] = useState(null); // 이전 메시지 조회용 커서
   const [stompClient, setStompClient] = useState(null);
   const [isConnected, setIsConnected] = useState(false);
   const [isMinimized, setIsMinimized] = useState(false);
   const messagesEndRef = useRef(null);
+  const toast = useToast();
 
   const prevOnNewMessageRef = useRef();
 
@@ -48,6 +51,9 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
       const socket = new SockJS(`/ws`);
       const client = new Client({
         webSocketFactory: () => socket,
+        connectHeaders: {
+          Authorization: `Bearer ${localStorage.getItem("accessToken")}`,
+        },
         reconnectDelay: 5000,
         onConnect: () => {
           client.subscribe(`/topic/chatroom/${roomId}`, (message) => {
@@ -67,6 +73,20 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
               );
             }
           });
+          // 서버가 저장하지 못한 내 메시지 (전송되지 않음) → 입력창에 되돌림
+          client.subscribe("/user/queue/errors", (frame) => {
+            const error = JSON.parse(frame.body);
+            if (error.roomId !== roomId) {
+              return;
+            }
+            setMessage((current) => current || error.content || "");
+            toast({
+              status: "warning",
+              description: "메시지를 보내지 못했습니다. 잠시 후 다시 시도해 주세요.",
+              position: "top",
+              duration: 3000,
+            });
+          });
           setIsConnected(true);
           setStompClient(client);
           fetchMessagesForRoom(roomId);
@@ -96,12 +116,29 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
   const fetchMessagesForRoom = async (roomId) => {
     try {
       const response = await axios.get(`/api/chat/messages/${roomId}`);
-      setMessages(response.data);
+      setMessages(response.data.messages);
+      setBefore(response.data.hasMore ? response.data.before : null);
     } catch (error) {
       console.error("Error fetching messages:", error);
     }
   };
 
+  const fetchOlderMessages = async () => {
+    if (!before || !selectedFriend) {
+      return;
+    }
+    const roomId = [userId, selectedFriend.id].sort((a, b) => a - b).join("-");
+    try {
+      const response = await axios.get(`/api/chat/messages/${roomId}`, {
+        params: { before },
+      });
+      setMessages((prev) => [...response.data.messages, ...prev]);
+      setBefore(response.data.hasMore ? response.data.before : null);
+    } catch (error) {
+      console.error("Error fetching older messages:", error);
+    }
+  };
+
   useEffect(() => {
     messagesEndRef.current?.scrollIntoView({ behavior: "auto" });
   }, [messages]);
@@ -129,12 +166,6 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
       body: JSON.stringify(chatMessage),
     });
 
-    try {
-      await axios.post("/api/chat", chatMessage);
-    } catch (error) {
-      console.error("Error saving message to the server:", error);
-    }
-
     setMessage("");
   };
 
@@ -192,6 +223,11 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
             borderWidth="1px"
             borderRadius="lg"
           >
+            {before && (
+              <Button size="xs" variant="ghost" width="100%" mb={2} onClick={fetchOlderMessages}>
+                이전 메시지 더보기
+              </Button>
+            )}
             {messages.map((msg, index) => (
               <Flex
                 key={index}
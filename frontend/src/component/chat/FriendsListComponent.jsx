@@ -15,6 +15,8 @@ import { ChatIcon, DeleteIcon, MinusIcon } from "@chakra-ui/icons";
 import { FontAwesomeIcon } from "@fortawesome/react-fontawesome";
 import { faHouse, faPlus } from "@fortawesome/free-solid-svg-icons";
 import { useNavigate } from "react-router-dom";
+import SockJS from "sockjs-client";
+import { Client } from "@stomp/stompjs";
 import axios from "@api/axiosConfig";
 import { LoginContext } from "../LoginProvider.jsx";
 import { generateDiaryId } from "../../util/util";
@@ -85,6 +87,41 @@ export const FriendsListComponent = ({ onSelectFriend, newMessages = {} }) => {
     }
   };
 
+  // 접속 상태: 연결 자체가 온라인 표시, 친구들의 상태 변경은 push 로 받음
+  const friendIds = friends.map((friend) => friend.id).join(",");
+  useEffect(() => {
+    if (!memberId) {
+      return;
+    }
+    const client = new Client({
+      webSocketFactory: () => new SockJS(`/ws`),
+      connectHeaders: {
+        Authorization: `Bearer ${localStorage.getItem("accessToken")}`,
+      },
+      reconnectDelay: 5000,
+      onConnect: () => {
+        friendIds
+          .split(",")
+          .filter((id) => id)
+          .forEach((id) => {
+            client.subscribe(`/topic/presence/${id}`, (message) => {
+              const { memberId: changedId, online } = JSON.parse(message.body);
+              setFriends((prev) =>
+                prev.map((friend) =>
+                  friend.id === changedId ? { ...friend, online } : friend,
+                ),
+              );
+            });
+          });
+      },
+    });
+    client.activate();
+
+    return () => {
+      client.deactivate();
+    };
+  }, [memberId, friendIds]);
+
   useEffect(() => {
     fetchFriends();
 
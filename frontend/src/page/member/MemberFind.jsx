@@ -40,10 +40,10 @@ export function MemberFind() {
       const response = await axios.post("/api/member/sendEmail", { username });
 
       if (response.status === 200) {
-        setSuccessMessage("임시 비밀번호가 이메일로 전송되었습니다.");
+        setSuccessMessage("임시 비밀번호를 이메일로 보내드립니다. 잠시 후 메일함을 확인해 주세요.");
         toast({
           title: "성공",
-          description: "임시 비밀번호가 이메일로 전송되었습니다.",
+          description: "임시 비밀번호를 이메일로 보내드립니다.",
           status: "success",
           duration: 5000,
           isClosable: true,